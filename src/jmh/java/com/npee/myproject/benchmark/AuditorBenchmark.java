@@ -0,0 +1,79 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 32개 스레드가 동시에 감사(auditing) 대상 엔티티를 저장할 때의 처리량.
+ * uuid: 이전 auditorProvider (엔티티마다 UUID.randomUUID), request: RequestAuditorAware
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class AuditorBenchmark {
+
+    @Param({"uuid", "request"})
+    public String auditor;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = "uuid".equals(auditor)
+                ? BenchmarkContext.start(UuidAuditorConfiguration.class)
+                : BenchmarkContext.start();
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        @Setup
+        public void bindRequest() {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("X-User-Id", "benchmark");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @TearDown
+        public void unbindRequest() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public Member auditedInsert(RequestState request) {
+        return memberRepository.save(new Member("audited", 20, null));
+    }
+
+    @Configuration
+    static class UuidAuditorConfiguration {
+
+        @Bean
+        public AuditorAware<String> auditorProvider() {
+            return () -> Optional.of(UUID.randomUUID().toString());
+        }
+    }
+}
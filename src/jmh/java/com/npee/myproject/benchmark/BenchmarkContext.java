@@ -0,0 +1,71 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.Application;
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.Team;
+import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.TeamJpaRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 스프링 컨텍스트 (웹 서버 없이 JPA 계층만, 내장 H2)
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(Class<?>... overrides) {
+        return start(new String[0], overrides);
+    }
+
+    /**
+     * @param properties 기본 설정에 더할 "key=value" 목록
+     */
+    static ConfigurableApplicationContext start(String[] properties, Class<?>... overrides) {
+        Class<?>[] sources = new Class<?>[overrides.length + 1];
+        sources[0] = Application.class;
+        System.arraycopy(overrides, 0, sources, 1, overrides.length);
+
+        return new SpringApplicationBuilder()
+                .sources(sources)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.messages.basename=i18n/exception",
+                        "spring.messages.encoding=UTF-8",
+                        "spring.main.allow-bean-definition-overriding=true",
+                        "spring.main.banner-mode=off",
+                        "sql.log.enabled=false",
+                        "logging.level.root=warn")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * teams 개의 팀과 members 명의 회원 (username: member0..., age: 0~99)
+     */
+    static void seed(ConfigurableApplicationContext context, int teams, int members) {
+        TeamJpaRepository teamRepository = context.getBean(TeamJpaRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+
+        List<Team> teamList = new ArrayList<>(teams);
+        for (int i = 0; i < teams; i++) {
+            teamList.add(new Team("team" + i));
+        }
+        teamRepository.saveAllBatched(teamList, 500);
+
+        List<Member> memberList = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            memberList.add(new Member("member" + i, i % 100, teamList.get(i % teams)));
+        }
+        memberRepository.saveAllBatched(memberList, 500);
+    }
+}
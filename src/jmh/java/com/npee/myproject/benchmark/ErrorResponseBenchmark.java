@@ -0,0 +1,55 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.advice.ErrorCatalog;
+import com.npee.myproject.advice.ErrorCode;
+import com.npee.myproject.config.response.CommonResult;
+import com.npee.myproject.config.response.ResponseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+
+/**
+ * 오류 응답 생성 비용 (오류가 몰리는 상황을 가정해 16개 스레드)
+ * messageSource: 이전 ExceptionAdvice (메시지 조회 2번 + parseInt + CommonResult 생성), catalog: ErrorCatalog
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class ErrorResponseBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MessageSource messageSource;
+    private ResponseService responseService;
+    private ErrorCatalog errorCatalog;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        messageSource = context.getBean(MessageSource.class);
+        responseService = context.getBean(ResponseService.class);
+        errorCatalog = context.getBean(ErrorCatalog.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CommonResult messageSource() {
+        return responseService.getFailResult(
+                Integer.parseInt(messageSource.getMessage("userNotExists.code", null, Locale.KOREAN)),
+                messageSource.getMessage("userNotExists.message", null, Locale.KOREAN));
+    }
+
+    @Benchmark
+    public CommonResult catalog() {
+        return errorCatalog.get(ErrorCode.USER_NOT_EXISTS, Locale.KOREAN);
+    }
+}
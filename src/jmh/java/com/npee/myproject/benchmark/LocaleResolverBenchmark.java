@@ -0,0 +1,113 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.config.MessageConfiguration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
+
+import javax.servlet.http.HttpSession;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 클라이언트 clients 명이 각자 ?lang=en 으로 로케일을 바꾸고 다음 요청을 보낼 때 서버에 남는 힙.
+ * session: SessionLocaleResolver (클라이언트마다 HttpSession, 컨테이너처럼 세션 목록을 잡아 둠), stateless: StatelessLocaleResolver (쿠키)
+ * retainedBytes: 요청 처리 후 GC 를 돌리고 잰 사용 힙 증가분. MockHttpSession 이라 Tomcat 세션 자체의 크기는 빠져 있어 session 쪽이 실제보다 작게 나온다.
+ * ./gradlew jmh -PjmhIncludes=LocaleResolverBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class LocaleResolverBenchmark {
+
+    @Param({"session", "stateless"})
+    public String mode;
+
+    @Param({"100000"})
+    public int clients;
+
+    private LocaleResolver localeResolver;
+    private LocaleChangeInterceptor localeChangeInterceptor;
+    private final List<HttpSession> sessions = new ArrayList<>(); // 세션 만료 전까지 컨테이너가 들고 있는 세션
+
+    @Setup
+    public void setUp() {
+        MessageConfiguration configuration = new MessageConfiguration();
+        localeResolver = configuration.localeResolver(mode, "X-Locale");
+        localeChangeInterceptor = configuration.localeChangeInterceptor();
+    }
+
+    @TearDown(Level.Iteration)
+    public void expireSessions() {
+        sessions.clear();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Heap {
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    public int concurrentClients(Heap heap) throws Exception {
+        long before = usedHeap();
+        int resolved = 0;
+        for (int i = 0; i < clients; i++) {
+            // 첫 요청: ?lang=en
+            MockHttpServletRequest change = request();
+            change.setParameter("lang", "en");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            localeChangeInterceptor.preHandle(change, response, null);
+
+            // 다음 요청: 세션 또는 쿠키로 같은 로케일을 찾는다
+            MockHttpServletRequest next = request();
+            HttpSession session = change.getSession(false);
+            if (session != null) {
+                sessions.add(session);
+                next.setSession(session);
+            }
+            next.setCookies(response.getCookies());
+            if (!Locale.ENGLISH.equals(localeResolver.resolveLocale(next))) {
+                throw new IllegalStateException("Locale not kept for client " + i + " (" + mode + ")");
+            }
+            resolved++;
+        }
+        heap.retainedBytes = usedHeap() - before;
+        return resolved;
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/members");
+        request.setAttribute(DispatcherServlet.LOCALE_RESOLVER_ATTRIBUTE, localeResolver);
+        return request;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,65 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.repository.BulkUpdateResult;
+import com.npee.myproject.repository.MemberBulkRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 UPDATE (기준선, JdbcTemplate) vs id 구간 chunk 단위 UPDATE (MemberRepository.bulkAgePlus 가 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class MemberBulkUpdateBenchmark {
+
+    @Param({"100000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private MemberBulkRepository memberBulkRepository;
+    private TransactionTemplate transaction;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, 100, members);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        memberBulkRepository = context.getBean(MemberBulkRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer singleUpdate() {
+        return transaction.execute(status ->
+                jdbcTemplate.update("update member set age = age + 1, version = version + 1 where age >= ?", 50));
+    }
+
+    @Benchmark
+    public BulkUpdateResult bulkAgePlusChunked() {
+        return memberBulkRepository.bulkAgePlus(50, 1000, 10);
+    }
+}
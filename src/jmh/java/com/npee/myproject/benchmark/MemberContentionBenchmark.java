@@ -0,0 +1,78 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.OptimisticRetryTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 8개 스레드가 hotRows 명 중 임의의 회원 나이를 1 올릴 때의 처리량.
+ * hotRows 가 작을수록 같은 행을 두고 경합이 심하다.
+ * pessimistic: findLockByUsername (SELECT ... FOR UPDATE), optimistic: @Version + OptimisticRetryTemplate
+ * hotRows=1 에서는 기본 재시도 횟수(5)로는 충돌이 끝나지 않아 반복이 중단되므로 재시도 횟수를 크게 잡는다.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class MemberContentionBenchmark {
+
+    private static final int MAX_ATTEMPTS = 1000;
+
+    @Param({"1", "8", "256"})
+    public int hotRows;
+
+    @Param({"pessimistic", "optimistic"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private OptimisticRetryTemplate optimisticRetryTemplate;
+    private TransactionTemplate transaction;
+    private Long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(new String[]{"optimistic.retry.max-attempts=" + MAX_ATTEMPTS});
+        BenchmarkContext.seed(context, 10, Math.max(hotRows, 1000));
+        memberRepository = context.getBean(MemberRepository.class);
+        optimisticRetryTemplate = context.getBean(OptimisticRetryTemplate.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        ids = new Long[hotRows];
+        for (int i = 0; i < hotRows; i++) {
+            ids[i] = memberRepository.findMemberByUsername("member" + i).getId();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member increaseAge() {
+        int row = ThreadLocalRandom.current().nextInt(hotRows);
+        if ("pessimistic".equals(mode)) {
+            return transaction.execute(status -> {
+                Member member = memberRepository.findLockByUsername("member" + row);
+                member.setAge(member.getAge() + 1);
+                return member;
+            });
+        }
+        return optimisticRetryTemplate.execute(() -> {
+            Member member = memberRepository.findById(ids[row]).get();
+            member.setAge(member.getAge() + 1);
+            return member;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.domain.entity.dto.MemberProjectionRow;
+import com.npee.myproject.repository.MemberProjection;
+import com.npee.myproject.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 100k 회원 / 1k 팀에서 native 프로젝션 페이지 조회
+ * interfaceProjection: findByNativeProjection (행마다 프록시), rows: findProjectionRows (MemberProjectionRow)
+ */
+@State(Scope.Benchmark)
+public class MemberNativeProjectionBenchmark {
+
+    @Param({"100000"})
+    public int members;
+
+    @Param({"1000"})
+    public int teams;
+
+    @Param({"100", "10000"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, teams, members);
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<MemberProjection> interfaceProjection() {
+        return memberRepository.findByNativeProjection(PageRequest.of(1, pageSize));
+    }
+
+    @Benchmark
+    public Page<MemberProjectionRow> rows() {
+        return memberRepository.findProjectionRows(PageRequest.of(1, pageSize));
+    }
+}
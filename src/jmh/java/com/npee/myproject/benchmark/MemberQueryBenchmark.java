@@ -0,0 +1,146 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.repository.KeysetSlice;
+import com.npee.myproject.repository.MemberJpaRepository;
+import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.NestedClosedProjections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조회 경로 비교: 쿼리 정의 방식, fetch join vs @EntityGraph, offset vs keyset 페이징, 엔티티 vs 컬럼 프로젝션
+ */
+@State(Scope.Benchmark)
+public class MemberQueryBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    @Param({"100"})
+    public int teams;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private MemberJpaRepository memberJpaRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private String deepPageCursor;
+
+    private static final int PAGE_SIZE = 20;
+    private static final Sort KEYSET_ORDER = Sort.by("username", "id");
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seed(context, teams, members);
+        memberRepository = context.getBean(MemberRepository.class);
+        memberJpaRepository = context.getBean(MemberJpaRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        // 마지막 페이지의 커서 (offsetDeepPage 와 같은 위치)
+        deepPageCursor = memberRepository.findKeyset(null, deepPageOffset()).getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomUsername() {
+        return "member" + ThreadLocalRandom.current().nextInt(members);
+    }
+
+    private int deepPageOffset() {
+        return members - PAGE_SIZE;
+    }
+
+    @Benchmark
+    public List<Member> findByUsernameDerived() {
+        return memberRepository.findListByUsername(randomUsername());
+    }
+
+    @Benchmark
+    public List<Member> findByUsernameQueryAnnotation() {
+        return memberRepository.findUserByUsername(randomUsername()); // 세 방식 모두 username = ? 하나
+    }
+
+    @Benchmark
+    public List<Member> findByUsernameNamedQuery() {
+        return memberJpaRepository.findByUsername(randomUsername());
+    }
+
+    @Benchmark
+    public int findMemberFetchJoin() {
+        return readOnlyTransaction.execute(status -> touchTeams(memberRepository.findMemberFetchJoin()));
+    }
+
+    @Benchmark
+    public int findAllEntityGraph() {
+        return readOnlyTransaction.execute(status -> touchTeams(memberRepository.findAll()));
+    }
+
+    @Benchmark
+    public Slice<Member> offsetFirstPage() {
+        return memberRepository.findSliceBy(PageRequest.of(0, PAGE_SIZE, KEYSET_ORDER));
+    }
+
+    @Benchmark
+    public Slice<Member> offsetDeepPage() {
+        return memberRepository.findSliceBy(PageRequest.of(deepPageOffset() / PAGE_SIZE, PAGE_SIZE, KEYSET_ORDER));
+    }
+
+    @Benchmark
+    public KeysetSlice<Member> keysetFirstPage() {
+        return memberRepository.findKeyset(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public KeysetSlice<Member> keysetDeepPage() {
+        return memberRepository.findKeyset(deepPageCursor, PAGE_SIZE);
+    }
+
+    // 기준선: 엔티티를 읽고 Spring Data 프록시로 감싼다. (findProjectionsByUsername 을 바꾸기 전 방식)
+    @Benchmark
+    public List<NestedClosedProjections> projectionEntityBacked() {
+        return readOnlyTransaction.execute(status -> {
+            List<Member> found = memberRepository.findByUsername(randomUsername());
+            List<NestedClosedProjections> projected = new ArrayList<>(found.size());
+            for (Member member : found) {
+                projected.add(PROJECTION_FACTORY.createProjection(NestedClosedProjections.class, member));
+            }
+            return projected;
+        });
+    }
+
+    @Benchmark
+    public List<NestedClosedProjections> projectionColumnsOnly() {
+        return readOnlyTransaction.execute(status ->
+                memberRepository.findProjectionsByUsername(randomUsername(), NestedClosedProjections.class));
+    }
+
+    private int touchTeams(List<Member> result) {
+        int length = 0;
+        for (Member member : result) {
+            length += member.getTeam().getName().length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.npee.myproject.benchmark;
+
+import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.NestedClosedProjections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 나이 하나에 해당하는 회원(members / 100 명)을 NestedClosedProjections 로 조회
+ * generated=false: JDK 프록시 + Map, generated=true: 생성된 구현 클래스 (gc.alloc.rate.norm 비교)
+ */
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    @Param({"100000"})
+    public int members;
+
+    @Param({"false", "true"})
+    public boolean generated;
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(new String[]{"projection.generated.enabled=" + generated});
+        BenchmarkContext.seed(context, 100, members);
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<NestedClosedProjections> nestedClosedProjections() {
+        return readOnlyTransaction.execute(status ->
+                memberRepository.findProjectionsByAge(42, NestedClosedProjections.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.npee.myproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.npee.myproject.config.response.EnvelopeHttpMessageConverter;
+import com.npee.myproject.config.response.ListResult;
+import com.npee.myproject.config.response.ResponseService;
+import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ListResult 응답 쓰기 비용
+ * jackson: MappingJackson2HttpMessageConverter 가 봉투 전체를 직렬화, envelope: 미리 만든 봉투 바이트 + 원소만 직렬화
+ * streaming: 같은 목록을 Iterator 로 넘겨 List 없이 쓴다
+ */
+@State(Scope.Benchmark)
+public class ResponseEnvelopeBenchmark {
+
+    @Param({"1", "10000"})
+    public int size;
+
+    private ResponseService responseService;
+    private MappingJackson2HttpMessageConverter jackson;
+    private EnvelopeHttpMessageConverter envelope;
+    private List<MemberTeamDto> members;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseService = new ResponseService();
+        jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+        envelope = new EnvelopeHttpMessageConverter(objectMapper);
+        members = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            members.add(new MemberTeamDto(i, "member" + i, "team" + (i % 10)));
+        }
+    }
+
+    @Benchmark
+    public byte[] jackson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jackson.write(responseService.getListResult(members), MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public byte[] envelope() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        envelope.write(responseService.getListResult(members), MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public byte[] streaming() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        ListResult<MemberTeamDto> result = responseService.getListResult(members.iterator());
+        envelope.write(result, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+}
@@ -1,13 +1,14 @@
 package com.npee.myproject;
 
+import com.npee.myproject.config.RequestAuditorAware;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 @EnableJpaAuditing // BaseTime 사용 <- Spring Data JPA Auditing 사용 시 필수
 @SpringBootApplication
@@ -16,8 +17,16 @@ public class Application {
         new SpringApplicationBuilder(Application.class).run(args);
     }
 
+    /**
+     * 기본은 Principal 만 사용. audit.user-header.enabled=true 이면 audit.trusted-gateways 에서 온 요청의 사용자 헤더도 읽는다
+     */
     @Bean
-    public AuditorAware<String> auditorProvider() {
-        return () -> Optional.of(UUID.randomUUID().toString());
+    public AuditorAware<String> auditorProvider(@Value("${audit.user-header.enabled:false}") boolean headerEnabled,
+                                                @Value("${audit.user-header.name:X-User-Id}") String userHeader,
+                                                @Value("${audit.trusted-gateways:}") Set<String> trustedGateways) {
+        if (!headerEnabled) {
+            return new RequestAuditorAware();
+        }
+        return new RequestAuditorAware(userHeader, trustedGateways);
     }
 }
@@ -0,0 +1,94 @@
+package com.npee.myproject.advice;
+
+import com.npee.myproject.config.response.CommonResult;
+import com.npee.myproject.config.response.ImmutableResult;
+import lombok.extern.slf4j.Slf4j;
+import net.rakugakibox.util.YamlResourceBundle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * i18n/exception_*.yml 을 로케일별로 한 번만 읽어 ErrorCode 별 실패 응답(ImmutableResult)을 미리 만들어 둔다.
+ * 오류가 몰릴 때도 메시지 조회, 코드 파싱, 응답 객체 생성이 반복되지 않는다.
+ * reload() 로 다시 읽는다. (ErrorCatalogEndpoint, POST /actuator/errorcatalog)
+ */
+@Slf4j
+@Component
+public class ErrorCatalog {
+
+    static final int MAX_CACHED_LOCALES = 64;
+
+    // 번들을 못 찾았을 때의 카탈로그(ErrorCode 기본 코드 + 키) 자리, 실제 Locale.ROOT 번들과 섞이지 않게 따로 둔다
+    private static final Locale MISSING_BUNDLE = new Locale("__missing__");
+
+    private final String basename;
+    private final Map<Locale, Map<ErrorCode, CommonResult>> byRequestedLocale = new ConcurrentHashMap<>();
+    private final Map<Locale, Map<ErrorCode, CommonResult>> byBundleLocale = new ConcurrentHashMap<>();
+
+    public ErrorCatalog(@Value("${spring.messages.basename}") String basename) {
+        this.basename = basename;
+    }
+
+    public CommonResult get(ErrorCode errorCode, Locale locale) {
+        Map<ErrorCode, CommonResult> catalog = byRequestedLocale.get(locale);
+        if (catalog == null) {
+            catalog = load(locale);
+            // Accept-Language 값이 제각각이어도 캐시가 무한히 커지지 않게 한다. (실제 번들은 byBundleLocale 에서 공유)
+            if (byRequestedLocale.size() < MAX_CACHED_LOCALES) {
+                byRequestedLocale.put(locale, catalog);
+            }
+        }
+        return catalog.get(errorCode);
+    }
+
+    int cachedLocaleCount() {
+        return byRequestedLocale.size();
+    }
+
+    public Set<Locale> getLoadedLocales() {
+        return Collections.unmodifiableSet(byBundleLocale.keySet());
+    }
+
+    public void reload() {
+        ResourceBundle.clearCache(getClass().getClassLoader());
+        byRequestedLocale.clear();
+        byBundleLocale.clear();
+        log.info("Error catalog cleared, {} will be read again", basename);
+    }
+
+    private Map<ErrorCode, CommonResult> load(Locale locale) {
+        ResourceBundle bundle;
+        try {
+            bundle = ResourceBundle.getBundle(basename, locale, YamlResourceBundle.Control.INSTANCE);
+        } catch (MissingResourceException e) {
+            log.warn("No error messages for {} ({})", locale, basename);
+            return byBundleLocale.computeIfAbsent(MISSING_BUNDLE, key -> build(null));
+        }
+        return byBundleLocale.computeIfAbsent(bundle.getLocale(), key -> build(bundle));
+    }
+
+    private Map<ErrorCode, CommonResult> build(ResourceBundle bundle) {
+        Map<ErrorCode, CommonResult> catalog = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            int code = errorCode.getCode();
+            String message = errorCode.getKey();
+            if (bundle != null && bundle.containsKey(errorCode.getKey() + ".code")) {
+                code = Integer.parseInt(bundle.getString(errorCode.getKey() + ".code"));
+            }
+            if (bundle != null && bundle.containsKey(errorCode.getKey() + ".message")) {
+                message = bundle.getString(errorCode.getKey() + ".message");
+            }
+            catalog.put(errorCode, new ImmutableResult(false, code, message));
+        }
+        return Collections.unmodifiableMap(catalog);
+    }
+}
@@ -0,0 +1,33 @@
+package com.npee.myproject.advice;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 재시작 없이 오류 메시지를 다시 읽는다. POST /actuator/errorcatalog
+ */
+@Component
+@Endpoint(id = "errorcatalog")
+public class ErrorCatalogEndpoint {
+
+    private final ErrorCatalog errorCatalog;
+
+    public ErrorCatalogEndpoint(ErrorCatalog errorCatalog) {
+        this.errorCatalog = errorCatalog;
+    }
+
+    @ReadOperation
+    public Set<Locale> loadedLocales() {
+        return errorCatalog.getLoadedLocales();
+    }
+
+    @WriteOperation
+    public void reload() {
+        errorCatalog.reload();
+    }
+}
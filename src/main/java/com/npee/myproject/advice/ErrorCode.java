@@ -0,0 +1,27 @@
+package com.npee.myproject.advice;
+
+import lombok.Getter;
+
+/**
+ * i18n/exception_*.yml 의 오류 키와 기본 코드 (yml 에 코드가 없을 때 사용)
+ */
+@Getter
+public enum ErrorCode {
+    UNKNOWN("unKnown", -9999),
+    USER_NOT_EXISTS("userNotExists", -1000),
+    SIGNIN_FAILED("signinFailed", -1001),
+    ENTRY_POINT_EXCEPTION("entryPointException", -1002),
+    ACCESS_DENIED("accessDenied", -1003),
+    COMMUNICATION_ERROR("communicationError", -1004),
+    USER_EXISTS("userExists", -1005),
+    SERVICE_BUSY("serviceBusy", -1006),
+    INVALID_PARAMETER("invalidParameter", -1007);
+
+    private final String key;
+    private final int code;
+
+    ErrorCode(String key, int code) {
+        this.key = key;
+        this.code = code;
+    }
+}
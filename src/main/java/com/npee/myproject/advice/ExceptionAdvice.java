@@ -1,11 +1,10 @@
 package com.npee.myproject.advice;
 
+import com.npee.myproject.advice.exception.CustomInvalidParameterException;
 import com.npee.myproject.advice.exception.CustomSigninFailedException;
 import com.npee.myproject.advice.exception.CustomUserNotExistsException;
 import com.npee.myproject.config.response.CommonResult;
-import com.npee.myproject.config.response.ResponseService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,39 +12,48 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.RejectedExecutionException;
 
 @RequiredArgsConstructor
 // TODO: 패키지 경로 체크
 @RestControllerAdvice(basePackages = "com.npee.myproject")
 public class ExceptionAdvice {
 
-    private final ResponseService responseService;
-    private final MessageSource messageSource;
+    private final ErrorCatalog errorCatalog;
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     protected CommonResult defaultException(HttpServletRequest request, Exception e) {
-        return responseService.getFailResult(Integer.parseInt(getMessage("unKnown.code")), getMessage("unKnown.message"));
-        // return responseService.getFailResult();
+        return getFailResult(ErrorCode.UNKNOWN);
     }
 
     @ExceptionHandler(CustomUserNotExistsException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     protected CommonResult userNotExistsException(HttpServletRequest request, CustomUserNotExistsException e) {
-        return responseService.getFailResult(Integer.parseInt(getMessage("userNotExists.code")), getMessage("userNotExists.message"));
+        return getFailResult(ErrorCode.USER_NOT_EXISTS);
     }
 
     @ExceptionHandler(CustomSigninFailedException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     protected CommonResult signinFailedException(HttpServletRequest request, CustomSigninFailedException e) {
-        return responseService.getFailResult(Integer.parseInt(getMessage("signinFailed.code")), getMessage("signinFailed.message"));
+        return getFailResult(ErrorCode.SIGNIN_FAILED);
     }
 
-    private String getMessage(String code) {
-        return getMessage(code, null);
+    @ExceptionHandler(CustomInvalidParameterException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected CommonResult invalidParameterException(HttpServletRequest request, CustomInvalidParameterException e) {
+        return getFailResult(ErrorCode.INVALID_PARAMETER);
     }
 
-    private String getMessage(String code, Object[] args) {
-        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+    // repositoryExecutor 큐가 가득 차 작업이 거절된 경우 (TaskRejectedException 포함), 잠시 후 재시도할 수 있는 오류로 응답
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    protected CommonResult rejectedExecutionException(HttpServletRequest request, RejectedExecutionException e) {
+        return getFailResult(ErrorCode.SERVICE_BUSY);
     }
-}
\ No newline at end of file
+
+    // 로케일별로 미리 만들어 둔 응답 (ErrorCatalog)
+    private CommonResult getFailResult(ErrorCode errorCode) {
+        return errorCatalog.get(errorCode, LocaleContextHolder.getLocale());
+    }
+}
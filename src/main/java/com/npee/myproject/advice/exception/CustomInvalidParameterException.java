@@ -0,0 +1,15 @@
+package com.npee.myproject.advice.exception;
+
+public class CustomInvalidParameterException extends RuntimeException {
+    public CustomInvalidParameterException() {
+        super();
+    }
+
+    public CustomInvalidParameterException(String message) {
+        super(message);
+    }
+
+    public CustomInvalidParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
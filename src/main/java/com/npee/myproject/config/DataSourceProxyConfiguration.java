@@ -0,0 +1,54 @@
+package com.npee.myproject.config;
+
+import com.npee.myproject.config.sql.SampledQueryLogger;
+import com.npee.myproject.config.sql.SqlLogEndpoint;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸서 느린 SQL / 샘플링된 SQL 만 로그로 남긴다. (p6spy 대체)
+ * sql.log.enabled=false 면 감싸지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.log.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyConfiguration {
+
+    @Bean
+    public SampledQueryLogger sampledQueryLogger(@Value("${sql.log.slow-threshold-ms:1000}") long slowThresholdMs,
+                                                 @Value("${sql.log.sample-rate:0}") int sampleRate,
+                                                 @Value("${sql.log.queue-capacity:1024}") int queueCapacity) {
+        return new SampledQueryLogger(slowThresholdMs, sampleRate, queueCapacity);
+    }
+
+    @Bean
+    public SqlLogEndpoint sqlLogEndpoint(SampledQueryLogger sampledQueryLogger) {
+        return new SqlLogEndpoint(sampledQueryLogger);
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor(ObjectProvider<SampledQueryLogger> logger) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 라우팅/지연 연결 DataSource 는 감싸지 않는다. (실제 풀에서 한 번만 기록)
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                            .listener(logger.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.npee.myproject.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableAsync
+@Configuration
+public class ExecutorConfiguration {
+
+    // DB 작업 전용 풀(@Async("repositoryExecutor")), 크기는 기본으로 커넥션 풀 크기에 맞춘다.
+    // 큐가 차면 작업을 거절한다(TaskRejectedException). 호출 스레드에서 실행(CallerRuns)하면
+    // 요청 스레드가 막히고 풀 스레드 위에 커넥션 사용자가 더 늘어나므로 쓰지 않는다.
+    @Bean
+    public ThreadPoolTaskExecutor repositoryExecutor(@Value("${repository.executor.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+                                                     @Value("${repository.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("repository-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // executor.pool.size, executor.active, executor.queued, executor.completed (name=repositoryExecutor)
+    @Bean
+    public MeterBinder repositoryExecutorMetrics(@Qualifier("repositoryExecutor") ThreadPoolTaskExecutor repositoryExecutor) {
+        return registry -> new ExecutorServiceMetrics(repositoryExecutor.getThreadPoolExecutor(),
+                "repositoryExecutor", Tags.empty()).bindTo(registry);
+    }
+
+    // Executor 빈을 직접 등록하면 스프링 부트 기본 풀이 빠지므로 MVC 비동기 처리용 기본 풀을 같은 방식으로 다시 등록
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
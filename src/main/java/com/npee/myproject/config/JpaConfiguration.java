@@ -0,0 +1,71 @@
+package com.npee.myproject.config;
+
+import com.npee.myproject.config.jpa.EntityLoadInterceptor;
+import com.npee.myproject.config.jpa.StatementCountInspector;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+@Configuration
+public class JpaConfiguration {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // 트랜잭션별 EntityManager 를 사용하는 공유 프록시라 싱글톤으로 써도 된다.
+    @Bean
+    public JPAQueryFactory jpaQueryFactory() {
+        return new JPAQueryFactory(em);
+    }
+
+    // MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 multi-row insert 로 묶인다.
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer(
+            @Value("${jpa.jdbc.batch-size:50}") int batchSize,
+            @Value("${jpa.default-batch-fetch-size:100}") int batchFetchSize) {
+        return properties -> {
+            // 지연 로딩 프록시/컬렉션을 IN 절로 묶어서 초기화 (N+1 -> 1+1)
+            properties.put(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchFetchSize);
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            // IN 절 파라미터 수를 2의 거듭제곱으로 맞춰 목록 크기가 달라도 같은 SQL 을 재사용
+            properties.put(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+        };
+    }
+
+    // Team, Member 엔티티와 Member.findByUsername 쿼리 캐시 (ehcache.xml 에서 크기/TTL 설정)
+    // hibernate-jcache 가 classpath 에 있으면 기본으로 켜지므로 꺼진 경우에도 명시적으로 설정한다.
+    // 적중/미스는 hibernate.second.level.cache.* 메트릭으로 actuator 에 노출된다.
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+            @Value("${jpa.second-level-cache.enabled:false}") boolean enabled) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.PROVIDER, "org.ehcache.jsr107.EhcacheCachingProvider");
+                properties.put(ConfigSettings.CONFIG_URI, "ehcache.xml");
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+
+    // 실행되는 SQL 과 hydrate 된 엔티티를 스레드별로 센다. (N+1 감지, 리포지토리 메트릭)
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadInterceptor());
+        };
+    }
+}
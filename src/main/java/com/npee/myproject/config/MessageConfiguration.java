@@ -19,11 +19,16 @@ import java.util.ResourceBundle;
 @Configuration
 public class MessageConfiguration implements WebMvcConfigurer {
 
+    // stateless: 헤더/쿠키/Accept-Language (HttpSession 을 만들지 않음), session: 이전 방식
     @Bean
-    public LocaleResolver localeResolver() {
-        SessionLocaleResolver slr = new SessionLocaleResolver();
-        slr.setDefaultLocale(Locale.KOREAN);
-        return slr;
+    public LocaleResolver localeResolver(@Value("${locale.resolver.mode:stateless}") String mode,
+                                         @Value("${locale.resolver.header:X-Locale}") String header) {
+        if ("session".equalsIgnoreCase(mode)) {
+            SessionLocaleResolver slr = new SessionLocaleResolver();
+            slr.setDefaultLocale(Locale.KOREAN);
+            return slr;
+        }
+        return new StatelessLocaleResolver(header, Locale.KOREAN);
     }
 
     @Bean
@@ -0,0 +1,171 @@
+package com.npee.myproject.config;
+
+import com.npee.myproject.config.jpa.EntityLoadInterceptor;
+import com.npee.myproject.config.jpa.StatementCounter;
+import com.npee.myproject.repository.KeysetSlice;
+import com.npee.myproject.repository.MultiGetResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 리포지토리 메서드별 지연 시간, 실행 SQL 수, 반환 행 수, hydrate 된 엔티티 수를 Micrometer 로 기록한다.
+ * (/actuator/metrics/repository.invocations?tag=repository:MemberRepository)
+ * 미터는 (리포지토리, 메서드)별로 한 번만 만들어 두고 재사용한다. 지연 시간은 서버에서 합칠 수 있는 히스토그램으로만 내보낸다.
+ * 리포지토리 안에서 다시 부른 리포지토리 호출(findKeyset 같은 default 메서드의 내부 쿼리 등)은 바깥 호출에 포함해서 한 번만 센다.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private static final String BASE_PACKAGE = "com.npee.myproject";
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Map<Method, MethodMeters>> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* *(..)) && (this(org.springframework.data.repository.Repository)"
+            + " || @within(org.springframework.stereotype.Repository))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return joinPoint.proceed(); // 바깥 리포지토리 호출에서 함께 측정
+        }
+        MethodMeters methodMeters = meters(joinPoint);
+
+        long statementsBefore = StatementCounter.threadTotal();
+        long entitiesBefore = EntityLoadInterceptor.threadTotal();
+        long startedAt = System.nanoTime();
+        Throwable failure = null;
+        depth[0]++;
+        try {
+            Object result = joinPoint.proceed();
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                methodMeters.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            depth[0]--;
+            methodMeters.timer(failure).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            methodMeters.statements.record(StatementCounter.threadTotal() - statementsBefore);
+            methodMeters.entities.record(EntityLoadInterceptor.threadTotal() - entitiesBefore);
+        }
+    }
+
+    private MethodMeters meters(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, MethodMeters> byMethod = meters.computeIfAbsent(proxy.getClass(), key -> new ConcurrentHashMap<>());
+        MethodMeters methodMeters = byMethod.get(method);
+        if (methodMeters == null) {
+            methodMeters = byMethod.computeIfAbsent(method,
+                    key -> new MethodMeters(registry, repositoryName(proxy), key.getName()));
+        }
+        return methodMeters;
+    }
+
+    /**
+     * 한 리포지토리 메서드의 미터, 타이머는 exception 태그 값별로 만든다
+     */
+    private static final class MethodMeters {
+
+        private final MeterRegistry registry;
+        private final String repository;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+        private final DistributionSummary rows;
+        private final DistributionSummary statements;
+        private final DistributionSummary entities;
+
+        MethodMeters(MeterRegistry registry, String repository, String method) {
+            this.registry = registry;
+            this.repository = repository;
+            this.method = method;
+            this.success = timer("none");
+            this.rows = summary("repository.rows");
+            this.statements = summary("repository.statements");
+            this.entities = summary("repository.entities.hydrated");
+        }
+
+        Timer timer(Throwable failure) {
+            if (failure == null) {
+                return success;
+            }
+            return failures.computeIfAbsent(failure.getClass(), type -> timer(type.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder("repository.invocations")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private DistributionSummary summary(String name) {
+            return DistributionSummary.builder(name)
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(registry);
+        }
+    }
+
+    private static String repositoryName(Object proxy) {
+        for (Class<?> userInterface : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+            if (userInterface.getName().startsWith(BASE_PACKAGE)) {
+                return userInterface.getSimpleName(); // Spring Data 리포지토리 인터페이스
+            }
+        }
+        return AopProxyUtils.ultimateTargetClass(proxy).getSimpleName();
+    }
+
+    private long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof KeysetSlice) {
+            return ((KeysetSlice<?>) result).getContent().size();
+        }
+        if (result instanceof MultiGetResult) {
+            return ((MultiGetResult<?, ?>) result).getContent().size();
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof Stream) {
+            return -1; // count, 변경 건수, 스트림은 행 수로 보지 않음
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,78 @@
+package com.npee.myproject.config;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Set;
+import java.util.Optional;
+
+/**
+ * 요청당 한 번만 작성자를 결정하고 요청 속성에 보관한다. (엔티티마다 다시 계산하지 않음)
+ * 인증 정보(Principal) -> anonymous 순서로 찾고, 요청 밖(배치, 비동기 작업)은 system.
+ * 사용자 헤더는 클라이언트가 마음대로 보낼 수 있으므로, userHeader 를 지정하고 신뢰하는 게이트웨이 주소에서 온 요청일 때만 읽는다.
+ */
+public class RequestAuditorAware implements AuditorAware<String> {
+
+    static final Optional<String> SYSTEM = Optional.of("system");
+    static final Optional<String> ANONYMOUS = Optional.of("anonymous");
+
+    // BaseEntity.createdBy / lastModifiedBy 컬럼 길이 (@Column 기본값)
+    static final int MAX_LENGTH = 255;
+
+    private static final String AUDITOR_ATTRIBUTE = RequestAuditorAware.class.getName() + ".AUDITOR";
+
+    @Nullable
+    private final String userHeader;
+    private final Set<String> trustedGateways;
+
+    public RequestAuditorAware() {
+        this(null, Collections.emptySet());
+    }
+
+    public RequestAuditorAware(@Nullable String userHeader, Set<String> trustedGateways) {
+        this.userHeader = userHeader;
+        this.trustedGateways = trustedGateways;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<String> getCurrentAuditor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return SYSTEM;
+        }
+
+        Object cached = attributes.getAttribute(AUDITOR_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (Optional<String>) cached;
+        }
+        Optional<String> auditor = resolve(((ServletRequestAttributes) attributes).getRequest());
+        attributes.setAttribute(AUDITOR_ATTRIBUTE, auditor, RequestAttributes.SCOPE_REQUEST);
+        return auditor;
+    }
+
+    private Optional<String> resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return Optional.of(truncate(principal.getName()));
+        }
+        if (userHeader != null && trustedGateways.contains(request.getRemoteAddr())) {
+            String user = request.getHeader(userHeader);
+            if (StringUtils.hasText(user)) {
+                return Optional.of(truncate(user.trim()));
+            }
+        }
+        return ANONYMOUS;
+    }
+
+    private static String truncate(String auditor) {
+        return auditor.length() > MAX_LENGTH ? auditor.substring(0, MAX_LENGTH) : auditor;
+    }
+}
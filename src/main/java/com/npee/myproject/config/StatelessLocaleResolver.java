@@ -0,0 +1,101 @@
+package com.npee.myproject.config;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.CookieLocaleResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * HttpSession 없이 요청마다 로케일을 정한다.
+ * 우선순위: 이번 요청에서 바꾼 값(?lang=) > 헤더 > 쿠키 > Accept-Language > fallbackLocale
+ * ?lang= 으로 바꾼 값은 쿠키로 내려주므로 서버에 상태가 남지 않고, 결정된 값은 요청 속성에 한 번만 저장한다.
+ */
+public class StatelessLocaleResolver extends CookieLocaleResolver {
+
+    private static final String RESOLVED_LOCALE_ATTRIBUTE = StatelessLocaleResolver.class.getName() + ".LOCALE";
+
+    private final String headerName;
+    private final Locale fallbackLocale;
+
+    public StatelessLocaleResolver(String headerName, Locale fallbackLocale) {
+        this.headerName = headerName;
+        this.fallbackLocale = fallbackLocale;
+        setCookieName("LOCALE");
+    }
+
+    @Override
+    public Locale resolveLocale(HttpServletRequest request) {
+        Locale cached = (Locale) request.getAttribute(RESOLVED_LOCALE_ATTRIBUTE);
+        if (cached != null) {
+            return cached;
+        }
+        Locale locale = parseHeader(request);
+        if (locale == null) {
+            locale = super.resolveLocale(request); // 쿠키, 없으면 determineDefaultLocale
+        }
+        request.setAttribute(RESOLVED_LOCALE_ATTRIBUTE, locale);
+        return locale;
+    }
+
+    // 클라이언트가 보낸 값이므로 형식이 틀리면 (en-US,en;q=0.9 등) 무시하고 쿠키 -> Accept-Language -> 기본값으로 넘어간다.
+    // 여기서 던지면 처음 로케일을 읽는 곳(ExceptionAdvice 등)에서 500 이 된다.
+    @Nullable
+    private Locale parseHeader(HttpServletRequest request) {
+        String header = request.getHeader(headerName);
+        if (!StringUtils.hasText(header)) {
+            return null;
+        }
+        try {
+            return parseLocaleValue(header);
+        } catch (IllegalArgumentException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Ignoring invalid " + headerName + " header value [" + header + "]: " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    // DispatcherServlet 은 resolveLocaleContext 로 LocaleContextHolder 를 채우므로 같은 규칙을 따르게 한다.
+    @Override
+    public LocaleContext resolveLocaleContext(HttpServletRequest request) {
+        TimeZoneAwareLocaleContext context = (TimeZoneAwareLocaleContext) super.resolveLocaleContext(request);
+        return new TimeZoneAwareLocaleContext() {
+            @Override
+            public Locale getLocale() {
+                return resolveLocale(request);
+            }
+
+            @Override
+            @Nullable
+            public TimeZone getTimeZone() {
+                return context.getTimeZone();
+            }
+        };
+    }
+
+    @Override
+    public void setLocaleContext(HttpServletRequest request, @Nullable HttpServletResponse response,
+                                 @Nullable LocaleContext localeContext) {
+        super.setLocaleContext(request, response, localeContext);
+        Locale locale = localeContext == null ? null : localeContext.getLocale();
+        if (locale != null) {
+            request.setAttribute(RESOLVED_LOCALE_ATTRIBUTE, locale);
+        } else {
+            request.removeAttribute(RESOLVED_LOCALE_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    protected Locale determineDefaultLocale(HttpServletRequest request) {
+        if (request.getHeader("Accept-Language") == null) {
+            return fallbackLocale;
+        }
+        return request.getLocale();
+    }
+}
@@ -0,0 +1,34 @@
+package com.npee.myproject.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.npee.myproject.config.jpa.StatementCountInterceptor;
+import com.npee.myproject.config.response.EnvelopeHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${jpa.n-plus-one.threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(nPlusOneThreshold));
+    }
+
+    // CommonResult 응답은 Jackson 컨버터보다 먼저 봉투 컨버터가 쓴다
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new EnvelopeHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,96 @@
+package com.npee.myproject.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 주기적으로 replica 의 복제 지연을 확인한다.
+ * 지연이 maxLagSeconds 를 넘거나, 복제가 멈췄거나, 접속이 안 되면 replica 를 사용 불가로 표시한다.
+ * MySQL 은 SHOW SLAVE STATUS 의 Seconds_Behind_Master 를 보고, 그 외 DB 는 접속 가능 여부만 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements BooleanSupplier, DisposableBean {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean available = true;
+    private volatile Long lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, long checkIntervalMs) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (checkIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return available;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    public void check() {
+        Long lag;
+        try (Connection connection = replica.getConnection()) {
+            lag = lagSeconds(connection);
+        } catch (SQLException e) {
+            log.debug("Replica check failed", e);
+            lag = null;
+        }
+        boolean nowAvailable = lag != null && lag <= maxLagSeconds;
+        if (nowAvailable != available) {
+            if (nowAvailable) {
+                log.info("Replica is back (lag {}s), routing read-only transactions to replica", lag);
+            } else {
+                log.warn("Replica unavailable (lag {}s, max {}s), routing read-only transactions to primary", lag, maxLagSeconds);
+            }
+        }
+        lastLagSeconds = lag;
+        available = nowAvailable;
+    }
+
+    // 지연(초), 복제가 멈췄거나 확인할 수 없으면 null
+    private Long lagSeconds(Connection connection) throws SQLException {
+        if (!"MySQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return connection.isValid(1) ? 0L : null;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("show slave status")) {
+            if (!rs.next()) {
+                return 0L; // 복제 설정이 없는 서버 (primary 와 같은 서버를 replica 로 지정한 경우)
+            }
+            long lag = rs.getLong("Seconds_Behind_Master");
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
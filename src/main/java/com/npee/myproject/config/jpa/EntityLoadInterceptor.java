@@ -0,0 +1,24 @@
+package com.npee.myproject.config.jpa;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * 스레드별로 DB 결과에서 만들어진(hydrate) 엔티티 수를 센다.
+ */
+public class EntityLoadInterceptor extends EmptyInterceptor {
+
+    private static final ThreadLocal<long[]> THREAD_TOTAL = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long threadTotal() {
+        return THREAD_TOTAL.get()[0];
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        THREAD_TOTAL.get()[0]++;
+        return false;
+    }
+}
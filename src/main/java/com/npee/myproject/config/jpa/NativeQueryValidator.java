@@ -0,0 +1,166 @@
+package com.npee.myproject.config.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시작 시 리포지토리의 @Query(nativeQuery = true) 를 검사한다.
+ * - 조인 조건(on/using)이 없는 join (cross/natural join 제외)
+ * - DB 에서 prepare 가 되는지 (H2 는 prepare 시 파싱, MySQL 은 useServerPrepStmts=true 일 때만)
+ * - countQuery 가 content 쿼리와 같은 테이블에서 시작하고, 행 수를 줄이는 inner join 을 빠뜨리지 않았는지
+ * native-query.validation.fail-fast=false 면 실패 대신 경고 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class NativeQueryValidator {
+
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern JOIN = Pattern.compile(
+            "\\b(?:(left|right|full|cross|natural|inner)\\s+)?(?:outer\\s+)?join\\s+([\\w.]+)");
+    private static final Pattern CLAUSE_END = Pattern.compile(
+            "\\b(?:(?:left|right|full|cross|natural|inner)\\s+)?(?:outer\\s+)?join\\b|\\b(?:where|group|order|having|limit|union)\\b");
+    private static final Pattern JOIN_CONDITION = Pattern.compile("\\b(?:on|using)\\b");
+    private static final Pattern DRIVING_TABLE = Pattern.compile("\\bfrom\\s+([\\w.]+)");
+    private static final Pattern PARAMETER = Pattern.compile("(?<![:\\w]):\\w+|\\?\\d+");
+
+    private final ListableBeanFactory beanFactory;
+    private final DataSource dataSource;
+    private final boolean failFast;
+
+    public NativeQueryValidator(ListableBeanFactory beanFactory,
+                                DataSource dataSource,
+                                @Value("${native-query.validation.fail-fast:true}") boolean failFast) {
+        this.beanFactory = beanFactory;
+        this.dataSource = dataSource;
+        this.failFast = failFast;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        List<String> problems = new ArrayList<>();
+        Repositories repositories = new Repositories(beanFactory);
+        for (Class<?> domainType : repositories) {
+            Optional<RepositoryInformation> information = repositories.getRepositoryInformationFor(domainType);
+            if (!information.isPresent()) {
+                continue;
+            }
+            for (Method method : information.get().getQueryMethods()) {
+                Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+                if (query != null && query.nativeQuery()) {
+                    String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                    problems.addAll(check(name, query.value(), query.countQuery()));
+                }
+            }
+        }
+
+        if (problems.isEmpty()) {
+            return;
+        }
+        if (failFast) {
+            throw new IllegalStateException("Invalid native queries:\n" + String.join("\n", problems));
+        }
+        problems.forEach(problem -> log.warn("Invalid native query: {}", problem));
+    }
+
+    List<String> check(String name, String sql, String countSql) {
+        List<String> problems = new ArrayList<>();
+        String content = normalize(sql);
+        for (String table : unconditionedJoins(content)) {
+            problems.add(name + ": join " + table + " has no on/using condition (cartesian product)");
+        }
+        prepare(name, sql, problems);
+
+        if (StringUtils.hasText(countSql)) {
+            String count = normalize(countSql);
+            String contentTable = drivingTable(content);
+            String countTable = drivingTable(count);
+            if (contentTable != null && !contentTable.equals(countTable)) {
+                problems.add(name + ": count query reads " + countTable + " but content query reads " + contentTable);
+            }
+            Set<String> countTables = joinedTables(count, false);
+            for (String table : joinedTables(content, true)) {
+                if (!countTables.contains(table)) {
+                    problems.add(name + ": count query is missing inner join " + table);
+                }
+            }
+            for (String table : unconditionedJoins(count)) {
+                problems.add(name + ": count join " + table + " has no on/using condition (cartesian product)");
+            }
+            prepare(name + " (count)", countSql, problems);
+        }
+        return problems;
+    }
+
+    private List<String> unconditionedJoins(String sql) {
+        List<String> tables = new ArrayList<>();
+        Matcher join = JOIN.matcher(sql);
+        while (join.find()) {
+            String type = join.group(1);
+            if ("cross".equals(type) || "natural".equals(type)) {
+                continue;
+            }
+            Matcher end = CLAUSE_END.matcher(sql);
+            int until = end.find(join.end()) ? end.start() : sql.length();
+            if (!JOIN_CONDITION.matcher(sql.substring(join.end(), until)).find()) {
+                tables.add(join.group(2));
+            }
+        }
+        return tables;
+    }
+
+    private Set<String> joinedTables(String sql, boolean innerOnly) {
+        Set<String> tables = new HashSet<>();
+        Matcher join = JOIN.matcher(sql);
+        while (join.find()) {
+            String type = join.group(1);
+            if (!innerOnly || type == null || "inner".equals(type)) {
+                tables.add(join.group(2));
+            }
+        }
+        return tables;
+    }
+
+    private String drivingTable(String sql) {
+        Matcher from = DRIVING_TABLE.matcher(sql);
+        return from.find() ? from.group(1) : null;
+    }
+
+    private void prepare(String name, String sql, List<String> problems) {
+        if (sql.contains("#{")) {
+            return; // SpEL 은 실행 시점에만 알 수 있음
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PARAMETER.matcher(sql).replaceAll("?"))) {
+            statement.getParameterMetaData();
+        } catch (SQLException e) {
+            problems.add(name + ": " + e.getMessage());
+        }
+    }
+
+    private static String normalize(String sql) {
+        return LITERAL.matcher(sql).replaceAll("''").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.npee.myproject.config.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,49 @@
+package com.npee.myproject.config.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * 요청마다 실행된 SQL 수를 세고, 같은 select 가 threshold 번을 넘게 반복되면 경고 로그를 남긴다.
+ * 요청 스레드에서 실행된 SQL 만 센다. 비동기 핸들러(CompletableFuture, StreamingResponseBody)가
+ * repositoryExecutor 나 MVC 비동기 풀에서 실행한 SQL 은 세지 않는다.
+ * 비동기 처리가 시작되면 afterCompletion 이 불리지 않으므로 afterConcurrentHandlingStarted 에서 ThreadLocal 을 정리한다.
+ */
+@Slf4j
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    private final int threshold;
+
+    public StatementCountInterceptor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        report(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        report(request);
+    }
+
+    private void report(HttpServletRequest request) {
+        StatementCounter.Stats stats = StatementCounter.stop();
+        Map<String, Integer> repeated = stats.getRepeatedSelects(threshold);
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 on {} {}: {} statements, repeated selects {}",
+                    request.getMethod(), request.getRequestURI(), stats.getTotal(), repeated);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.npee.myproject.config.jpa;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 을 문장별로 센다. (요청 단위는 StatementCountInterceptor, 테스트에서는 start/stop 직접 호출)
+ * 같은 select 가 반복되면 N+1 로 판단한다.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> THREAD_TOTAL = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Stats());
+    }
+
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats == null ? new Stats() : stats;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 이 스레드에서 지금까지 실행된 SQL 수 (구간 전후 값의 차이로 사용)
+     */
+    public static long threadTotal() {
+        return THREAD_TOTAL.get()[0];
+    }
+
+    static void record(String sql) {
+        THREAD_TOTAL.get()[0]++;
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(sql);
+        }
+    }
+
+    public static class Stats {
+
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private int total;
+
+        private void record(String sql) {
+            total++;
+            counts.merge(sql, 1, Integer::sum);
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getSelectCount() {
+            return count("select");
+        }
+
+        public int getInsertCount() {
+            return count("insert");
+        }
+
+        public int getUpdateCount() {
+            return count("update");
+        }
+
+        public int count(String statementType) {
+            int count = 0;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                if (entry.getKey().trim().toLowerCase(Locale.ROOT).startsWith(statementType)) {
+                    count += entry.getValue();
+                }
+            }
+            return count;
+        }
+
+        /**
+         * maxExecutions 보다 많이 실행된 동일 select 문과 실행 횟수
+         */
+        public Map<String, Integer> getRepeatedSelects(int maxExecutions) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            counts.forEach((sql, count) -> {
+                if (count > maxExecutions && sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                    repeated.put(sql, count);
+                }
+            });
+            return Collections.unmodifiableMap(repeated);
+        }
+
+        public void assertNoRepeatedSelects(int maxExecutions) {
+            Map<String, Integer> repeated = getRepeatedSelects(maxExecutions);
+            if (!repeated.isEmpty()) {
+                throw new IllegalStateException("N+1 select detected (more than " + maxExecutions + " executions): " + repeated);
+            }
+        }
+    }
+}
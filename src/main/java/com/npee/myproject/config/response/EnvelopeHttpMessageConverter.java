@@ -0,0 +1,139 @@
+package com.npee.myproject.config.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * ResponseService 가 만든 성공 응답은 {"success":true,"code":0,"message":"성공", 까지를 미리 만든 바이트로 쓰고
+ * data / list 만 Jackson 으로 직렬화한다. list 는 원소마다 바로 쓰므로 StreamingListResult 는 List 로 모으지 않는다.
+ * 그 외 CommonResult (실패 응답 등)는 Jackson 으로 그대로 쓴다.
+ */
+public class EnvelopeHttpMessageConverter extends AbstractHttpMessageConverter<CommonResult> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final byte[] successBody;
+    private final byte[] dataPrefix;
+    private final byte[] listPrefix;
+
+    public EnvelopeHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        // 응답 스트림은 컨테이너 소유이므로 writeValue(OutputStream) 가 닫지 않게 한다. (이후 필터/인터셉터의 쓰기가 실패함)
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.successBody = successEnvelope();
+        this.dataPrefix = prefix("data");
+        this.listPrefix = prefix("list");
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CommonResult.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CommonResult readInternal(Class<? extends CommonResult> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Envelope responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CommonResult result, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream body = outputMessage.getBody();
+        if (!isSuccessEnvelope(result)) {
+            writer.writeValue(body, result);
+            return;
+        }
+        if (result instanceof SingleResult) {
+            body.write(dataPrefix);
+            writePayload(body, ((SingleResult<?>) result).getData());
+        } else if (result instanceof StreamingListResult) {
+            body.write(listPrefix);
+            writeStreamingList(body, (StreamingListResult<?>) result);
+        } else if (result instanceof ListResult) {
+            body.write(listPrefix);
+            writePayload(body, ((ListResult<?>) result).getList());
+        } else if (result.getClass() == CommonResult.class || result instanceof ImmutableResult) {
+            body.write(successBody);
+            return;
+        } else {
+            writer.writeValue(body, result); // 하위 타입의 추가 필드는 미리 만든 바이트에 없다
+            return;
+        }
+        body.write('}');
+    }
+
+    private void writePayload(OutputStream body, Object payload) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(body)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(gen, payload);
+        }
+    }
+
+    private void writeStreamingList(OutputStream body, StreamingListResult<?> result) throws IOException {
+        Iterator<?> iterator = result.takeIterator();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(body)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (iterator == null) { // 이미 getList() 로 모은 경우
+                writer.writeValue(gen, result.getList());
+                return;
+            }
+            gen.writeStartArray();
+            while (iterator.hasNext()) {
+                writer.writeValue(gen, iterator.next());
+            }
+            gen.writeEndArray();
+        } finally {
+            try {
+                result.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close list source", e);
+            }
+        }
+    }
+
+    private static boolean isSuccessEnvelope(CommonResult result) {
+        return result.isSuccess()
+                && result.getCode() == ResponseService.CommonResponse.SUCCESS.getCode()
+                && ResponseService.CommonResponse.SUCCESS.getMessage().equals(result.getMessage());
+    }
+
+    // {"success":true,"code":0,"message":"성공"}
+    private byte[] successEnvelope() {
+        try {
+            return objectMapper.writeValueAsBytes(new ImmutableResult(true,
+                    ResponseService.CommonResponse.SUCCESS.getCode(), ResponseService.CommonResponse.SUCCESS.getMessage()));
+        } catch (IOException e) {
+            throw new HttpMessageNotWritableException("Cannot build response envelope", e);
+        }
+    }
+
+    // 닫는 } 를 떼고 ,"<field>": 를 붙인다. 값 뒤의 } 는 writeInternal 에서 쓴다
+    private byte[] prefix(String field) {
+        byte[] tail = (",\"" + field + "\":").getBytes(StandardCharsets.UTF_8);
+        byte[] prefix = Arrays.copyOf(successBody, successBody.length - 1 + tail.length);
+        System.arraycopy(tail, 0, prefix, successBody.length - 1, tail.length);
+        return prefix;
+    }
+}
@@ -0,0 +1,28 @@
+package com.npee.myproject.config.response;
+
+/**
+ * 미리 만들어 두고 모든 요청이 공유하는 응답 (ResponseService 의 성공 응답, ErrorCatalog 의 실패 응답), 값을 바꿀 수 없다.
+ */
+public final class ImmutableResult extends CommonResult {
+
+    public ImmutableResult(boolean success, int code, String message) {
+        super.setSuccess(success);
+        super.setCode(code);
+        super.setMessage(message);
+    }
+
+    @Override
+    public void setSuccess(boolean success) {
+        throw new UnsupportedOperationException("Shared result is immutable");
+    }
+
+    @Override
+    public void setCode(int code) {
+        throw new UnsupportedOperationException("Shared result is immutable");
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("Shared result is immutable");
+    }
+}
@@ -3,7 +3,9 @@ package com.npee.myproject.config.response;
 import lombok.Getter;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class ResponseService {
@@ -21,6 +23,11 @@ public class ResponseService {
             this.message = message;
         }
     }
+
+    // 성공 응답은 값이 같으므로 하나를 공유한다
+    private static final CommonResult SUCCESS_RESULT =
+            new ImmutableResult(true, CommonResponse.SUCCESS.getCode(), CommonResponse.SUCCESS.getMessage());
+
     public <T> SingleResult<T> getSingleResult(T data) {
         SingleResult<T> result = new SingleResult<>();
         result.setData(data);
@@ -36,12 +43,28 @@ public class ResponseService {
         return result;
     }
 
-    public CommonResult getSuccessResult() {
-        CommonResult result = new CommonResult();
+    /**
+     * 원소를 List 로 모으지 않고 응답을 쓰면서 하나씩 꺼낸다
+     */
+    public <T> ListResult<T> getListResult(Iterator<T> iterator) {
+        ListResult<T> result = new StreamingListResult<>(iterator, null);
         setSuccessResult(result);
         return result;
     }
 
+    /**
+     * 응답을 다 쓰면 stream 을 닫는다. JPA 스트림이면 응답을 쓰는 동안 트랜잭션(또는 OSIV)이 열려 있어야 한다
+     */
+    public <T> ListResult<T> getListResult(Stream<T> stream) {
+        ListResult<T> result = new StreamingListResult<>(stream.iterator(), stream);
+        setSuccessResult(result);
+        return result;
+    }
+
+    public CommonResult getSuccessResult() {
+        return SUCCESS_RESULT;
+    }
+
     public CommonResult getFailResult(int code, String message) {
         CommonResult result = new CommonResult();
         result.setSuccess(false);
@@ -0,0 +1,47 @@
+package com.npee.myproject.config.response;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * List 대신 Iterator 로 원소를 넘기는 ListResult.
+ * EnvelopeHttpMessageConverter 는 원소를 읽는 대로 쓰고, 다른 경로에서 getList() 를 부르면 그때 List 로 모은다.
+ * source 는 응답을 쓸 때까지 열려 있어야 하고, 다 쓰면 (AutoCloseable 이면) 닫는다.
+ */
+public class StreamingListResult<T> extends ListResult<T> {
+
+    private Iterator<T> iterator;
+    private final AutoCloseable source;
+
+    StreamingListResult(Iterator<T> iterator, AutoCloseable source) {
+        this.iterator = iterator;
+        this.source = source;
+    }
+
+    /**
+     * 아직 List 로 모으지 않았으면 Iterator 를 넘기고, 이후에는 null (한 번만 읽을 수 있음)
+     */
+    Iterator<T> takeIterator() {
+        Iterator<T> taken = iterator;
+        iterator = null;
+        return taken;
+    }
+
+    void close() throws Exception {
+        if (source != null) {
+            source.close();
+        }
+    }
+
+    @Override
+    public List<T> getList() {
+        Iterator<T> remaining = takeIterator();
+        if (remaining != null) {
+            List<T> list = new ArrayList<>();
+            remaining.forEachRemaining(list::add);
+            setList(list);
+        }
+        return super.getList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.npee.myproject.config.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * slowThresholdMs 이상 걸린 SQL 과 sampleRate 개 중 1 개의 SQL 만 로그로 남긴다.
+ * 로그 대상이 아니면 아무것도 할당하지 않고, 포맷팅은 별도 스레드에서 한다. (큐가 차면 버림)
+ * 설정은 실행 중에 바꿀 수 있다. (SqlLogEndpoint, /actuator/sqllog)
+ */
+@Slf4j
+public class SampledQueryLogger implements QueryExecutionListener, DisposableBean {
+
+    public static final long DISABLED = -1;
+
+    private volatile long slowThresholdMs;
+    private volatile int sampleRate;
+
+    private final BlockingQueue<Entry> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    public SampledQueryLogger(long slowThresholdMs, int sampleRate, int queueCapacity) {
+        this.slowThresholdMs = slowThresholdMs;
+        this.sampleRate = sampleRate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "sql-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    // DISABLED(-1) 이면 느린 쿼리 기준을 끈다.
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    // 0 이하면 샘플링을 끈다. 1 이면 모든 SQL
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getPending() {
+        return queue.size();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long threshold = slowThresholdMs;
+        int rate = sampleRate;
+        boolean slow = threshold >= 0 && execInfo.getElapsedTime() >= threshold;
+        boolean sampled = !slow && rate > 0 && (rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0);
+        if (!slow && !sampled) {
+            return;
+        }
+        // 파라미터 목록은 실행이 끝나면 다시 쓰이지 않으므로 참조만 넘긴다.
+        Entry entry = new Entry(slow, execInfo.getElapsedTime(), execInfo.isSuccess(),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 0, queryInfoList);
+        if (!queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        writer.interrupt();
+    }
+
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Entry entry = queue.take();
+                line.setLength(0);
+                entry.format(line);
+                if (entry.slow) {
+                    log.warn("{}", line);
+                } else {
+                    log.info("{}", line);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Entry {
+
+        private final boolean slow;
+        private final long elapsedMs;
+        private final boolean success;
+        private final int batchSize;
+        private final List<QueryInfo> queries;
+
+        private Entry(boolean slow, long elapsedMs, boolean success, int batchSize, List<QueryInfo> queries) {
+            this.slow = slow;
+            this.elapsedMs = elapsedMs;
+            this.success = success;
+            this.batchSize = batchSize;
+            this.queries = queries;
+        }
+
+        private void format(StringBuilder line) {
+            line.append(slow ? "slow " : "sampled ").append(elapsedMs).append("ms");
+            if (!success) {
+                line.append(" failed");
+            }
+            if (batchSize > 0) {
+                line.append(" batch=").append(batchSize);
+            }
+            for (QueryInfo query : queries) {
+                line.append(" | ").append(query.getQuery());
+                for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                    line.append(" [");
+                    for (int i = 0; i < parameters.size(); i++) {
+                        Object[] args = parameters.get(i).getArgs(); // (index 또는 이름, 값)
+                        if (i > 0) {
+                            line.append(", ");
+                        }
+                        line.append(args[0]).append('=').append(args.length > 1 ? args[1] : null);
+                    }
+                    line.append(']');
+                }
+            }
+        }
+    }
+}
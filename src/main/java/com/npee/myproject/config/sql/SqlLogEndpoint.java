@@ -0,0 +1,44 @@
+package com.npee.myproject.config.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재시작 없이 SQL 로그 기준을 바꾼다.
+ * POST /actuator/sqllog {"slowThresholdMs": 200, "sampleRate": 1000}
+ */
+@Endpoint(id = "sqllog")
+public class SqlLogEndpoint {
+
+    private final SampledQueryLogger logger;
+
+    public SqlLogEndpoint(SampledQueryLogger logger) {
+        this.logger = logger;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("slowThresholdMs", logger.getSlowThresholdMs());
+        settings.put("sampleRate", logger.getSampleRate());
+        settings.put("pending", logger.getPending());
+        settings.put("dropped", logger.getDropped());
+        return settings;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Long slowThresholdMs, @Nullable Integer sampleRate) {
+        if (slowThresholdMs != null) {
+            logger.setSlowThresholdMs(slowThresholdMs);
+        }
+        if (sampleRate != null) {
+            logger.setSampleRate(sampleRate);
+        }
+        return settings();
+    }
+}
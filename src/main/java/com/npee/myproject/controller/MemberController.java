@@ -1,23 +1,41 @@
 package com.npee.myproject.controller;
 
+import com.npee.myproject.advice.exception.CustomInvalidParameterException;
 import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.Team;
+import com.npee.myproject.domain.entity.dto.MemberSearchCondition;
 import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import com.npee.myproject.domain.entity.dto.TeamMembersDto;
+import com.npee.myproject.repository.CountStrategy;
+import com.npee.myproject.repository.CountedPage;
+import com.npee.myproject.repository.KeysetCursor;
+import com.npee.myproject.repository.KeysetSlice;
 import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class MemberController {
 
+    private static final int KEYSET_MAX_SIZE = 100;
+
     private final MemberRepository memberRepository;
+    private final TeamRepository teamRepository;
 
     @GetMapping("/members/{id}")
     public String findMember(@PathVariable("id") Long id) {
@@ -31,15 +49,56 @@ public class MemberController {
     }
 
     @GetMapping("/members")
-    public Page<MemberTeamDto> list(@PageableDefault(size = 5) Pageable pageable) {
-        return memberRepository.findAll(pageable)
+    public CountedPage<MemberTeamDto> list(@PageableDefault(size = 5) Pageable pageable,
+                                           @RequestParam(value = "count", defaultValue = "EXACT") CountStrategy count) {
+        return memberRepository.findCountedBy(pageable, count).map(MemberTeamDto::new);
+    }
+
+    // /members/search?teamName=teamA&ageGoe=10&ageLoe=20&page=0&size=5&sort=username,desc
+    // 정렬 속성은 searchPage 가 검사한다. (MemberRepositoryImpl), 지원하지 않는 속성이면 400
+    @GetMapping("/members/search")
+    public Page<MemberTeamDto> search(MemberSearchCondition condition, @PageableDefault(size = 5) Pageable pageable) {
+        try {
+            return memberRepository.searchPage(condition, pageable);
+        } catch (InvalidDataAccessApiUsageException e) {
+            throw new CustomInvalidParameterException(e.getMessage(), e);
+        }
+    }
+
+    // size 는 1 ~ KEYSET_MAX_SIZE, 벗어나거나 cursor 가 잘못되면 400
+    @GetMapping("/members/keyset")
+    public KeysetSlice<MemberTeamDto> keysetList(@RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "size", defaultValue = "5") int size) {
+        if (size < 1 || size > KEYSET_MAX_SIZE) {
+            throw new CustomInvalidParameterException("size must be between 1 and " + KEYSET_MAX_SIZE + ": " + size);
+        }
+        KeysetCursor after;
+        try {
+            after = KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CustomInvalidParameterException("invalid cursor: " + cursor, e);
+        }
+        return memberRepository.findKeysetAfter(after, size)
                 .map(MemberTeamDto::new);
     }
 
+    // 팀 조회와 회원 페이지 조회를 repositoryExecutor 에서 동시에 실행하고, 요청 스레드는 바로 반환한다.
+    @GetMapping("/teams/{id}/members")
+    public CompletableFuture<TeamMembersDto> teamMembers(@PathVariable("id") Long teamId,
+                                                         @PageableDefault(size = 5) Pageable pageable) {
+        CompletableFuture<Optional<Team>> team = teamRepository.findAsyncById(teamId);
+        CompletableFuture<Page<Member>> members = memberRepository.findAsyncByTeamId(teamId, pageable);
+        return team.thenCombine(members, (found, page) -> new TeamMembersDto(teamId,
+                found.map(Team::getName).orElse(null),
+                page.map(MemberTeamDto::new)));
+    }
+
     // @PostConstruct
     public void init() {
+        List<Member> members = new ArrayList<>();
         for (int i = 1; i < 100; i++) {
-            memberRepository.save(new Member("user" + i, i, null));
+            members.add(new Member("user" + i, i, null));
         }
+        memberRepository.saveAllBatched(members, 50);
     }
 }
@@ -0,0 +1,192 @@
+package com.npee.myproject.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import com.npee.myproject.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 회원을 List 로 만들지 않고 DB 커서에서 읽는 대로 chunked 응답으로 내보낸다.
+ * 출력 스트림 쓰기가 막히면(느린 클라이언트) 커서 읽기도 멈추므로 서버는 결과를 쌓아두지 않는다.
+ * 큰 내보내기는 오래 걸리는 것이 정상이므로 기본 비동기 타임아웃 대신 WebAsyncTask 로 member.export.timeout (ms, 기본 5분)을 쓴다.
+ * 요청마다 커넥션과 커서를 잡고 있으므로 제한 없이 두지 않는다. 타임아웃이 지나면 응답이 닫히고 쓰기가 실패하면서 트랜잭션과 커서도 정리된다.
+ */
+@RestController
+public class MemberExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushEvery;
+    private final long timeout;
+
+    public MemberExportController(MemberRepository memberRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  @Value("${member.export.fetch-size:500}") int fetchSize,
+                                  @Value("${member.export.flush-every:500}") int flushEvery,
+                                  @Value("${member.export.timeout:300000}") long timeout) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushEvery = flushEvery;
+        this.timeout = timeout;
+    }
+
+    @GetMapping("/members/export")
+    public WebAsyncTask<Void> export(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                     HttpServletResponse response) {
+        if ("csv".equalsIgnoreCase(format)) {
+            response.setContentType(CSV.toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.csv\"");
+            return streaming(response, out -> streamMembers(out, true));
+        }
+        response.setContentType(NDJSON.toString());
+        return streaming(response, out -> streamMembers(out, false));
+    }
+
+    // 첫 건은 바로 flush 해서 첫 바이트까지의 시간이 전체 건수와 상관없게 한다.
+    @GetMapping("/members/stream")
+    public WebAsyncTask<Void> stream(HttpServletResponse response) {
+        response.setContentType(NDJSON.toString());
+        return streaming(response, out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<MemberTeamDto> members = memberRepository.streamMemberTeam(fetchSize)) {
+                writeMemberTeamNdjson(members.iterator(), out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * StreamingResponseBody 반환값 처리와 같이 비동기 스레드에서 응답 스트림에 직접 쓰되, 타임아웃은 WebAsyncTask 로 이 요청에만 준다.
+     * 핸들러가 HttpServletResponse 를 받으므로 요청은 처리된 것으로 표시되고, 완료 후 재디스패치에서 뷰나 메시지 변환을 하지 않는다.
+     */
+    private WebAsyncTask<Void> streaming(HttpServletResponse response, StreamingResponseBody body) {
+        return new WebAsyncTask<>(timeout, () -> {
+            OutputStream out = response.getOutputStream();
+            body.writeTo(out);
+            out.flush();
+            return null;
+        });
+    }
+
+    private void streamMembers(OutputStream out, boolean csv) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Member> members = memberRepository.streamAll(fetchSize)) {
+                if (csv) {
+                    writeCsv(members.iterator(), out);
+                } else {
+                    writeNdjson(members.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<Member> members, OutputStream out) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(new SerializedString("\n"));
+            int count = 0;
+            while (members.hasNext()) {
+                Member member = members.next();
+                gen.writeStartObject();
+                gen.writeNumberField("id", member.getId());
+                gen.writeStringField("username", member.getUsername());
+                gen.writeNumberField("age", member.getAge());
+                gen.writeStringField("teamName", member.getTeam() == null ? null : member.getTeam().getName());
+                gen.writeEndObject();
+                if (++count % flushEvery == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeRaw('\n');
+        }
+    }
+
+    private void writeMemberTeamNdjson(Iterator<MemberTeamDto> members, OutputStream out) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(new SerializedString("\n"));
+            int count = 0;
+            while (members.hasNext()) {
+                MemberTeamDto member = members.next();
+                gen.writeStartObject();
+                gen.writeNumberField("id", member.getId());
+                gen.writeStringField("username", member.getUsername());
+                gen.writeStringField("teamName", member.getTeamName());
+                gen.writeEndObject();
+                if (++count == 1 || count % flushEvery == 0) {
+                    gen.flush();
+                }
+            }
+            gen.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<Member> members, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,username,age,teamName\n");
+        int count = 0;
+        while (members.hasNext()) {
+            Member member = members.next();
+            writer.write(String.valueOf(member.getId()));
+            writer.write(',');
+            writeCsvField(writer, member.getUsername());
+            writer.write(',');
+            writer.write(String.valueOf(member.getAge()));
+            writer.write(',');
+            writeCsvField(writer, member.getTeam() == null ? null : member.getTeam().getName());
+            writer.write('\n');
+            if (++count % flushEvery == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,25 @@
+package com.npee.myproject.domain.entity;
+
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
+import java.io.Serializable;
+
+/**
+ * 식별자를 직접 할당하는 엔티티의 신규 여부를 version 컬럼으로 판단한다. (조회/merge 된 인스턴스만 version 이 있다)
+ * 같은 id 로 새로 만든 인스턴스는 구분하지 못하므로 save() 는 이 값에 기대지 않는다. (Item 은 ItemRepositoryImpl 의 upsert 로 저장)
+ */
+@Getter
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID extends Serializable> implements Persistable<ID> {
+
+    @Version
+    private Long version;
+
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
+}
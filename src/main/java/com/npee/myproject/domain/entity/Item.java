@@ -4,25 +4,23 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.domain.AuditorAware;
-import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
-import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import java.time.LocalDateTime;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Item implements Persistable<String> {
+public class Item extends AssignedIdEntity<String> {
 
     @Id
     // @GeneratedValue
     private String id;
 
+    @Getter
     @CreatedDate
     private LocalDateTime createdDate;
 
@@ -34,10 +32,4 @@ public class Item implements Persistable<String> {
     public String getId() {
         return id;
     }
-
-    @Override
-    public boolean isNew() {
-        // 로직 작접 작성
-        return createdDate == null;
-    }
 }
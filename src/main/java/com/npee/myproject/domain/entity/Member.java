@@ -1,26 +1,46 @@
 package com.npee.myproject.domain.entity;
 
+import com.npee.myproject.domain.entity.dto.MemberProjectionRow;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"})
 @NamedQuery(
         name = "Member.findByUsername",
-        query = "select m from Member m where m.username = :username"
+        query = "select m from Member m where m.username = :username",
+        hints = @QueryHint(name = "org.hibernate.cacheable", value = "true")
 )
 @NamedEntityGraph(name = "Member.all", attributeNodes = @NamedAttributeNode("team"))
+@SqlResultSetMapping(
+        name = "MemberProjectionRow",
+        classes = @ConstructorResult(targetClass = MemberProjectionRow.class, columns = {
+                @ColumnResult(name = "id", type = Long.class),
+                @ColumnResult(name = "username"),
+                @ColumnResult(name = "teamName")
+        })
+)
 public class Member extends BaseEntity {
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50) // pooled: 50건마다 한 번만 시퀀스 조회
     @Column(name = "member_id")
     private Long id;
     private String username;
     private int age;
 
+    @Setter(AccessLevel.NONE)
+    @Version // 동시 수정 시 나중에 커밋하는 쪽이 OptimisticLockException (OptimisticRetryTemplate 으로 재시도)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
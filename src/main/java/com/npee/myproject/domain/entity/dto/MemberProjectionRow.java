@@ -0,0 +1,24 @@
+package com.npee.myproject.domain.entity.dto;
+
+import com.npee.myproject.repository.MemberProjection;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * MemberProjection 의 필드 기반 구현, native 조회 결과를 프록시 없이 바로 담는다. (Member 의 @SqlResultSetMapping)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class MemberProjectionRow implements MemberProjection {
+    private final Long id;
+    private final String username;
+    private final String teamName;
+
+    public MemberProjectionRow(Long id, String username, String teamName) {
+        this.id = id;
+        this.username = username;
+        this.teamName = teamName;
+    }
+}
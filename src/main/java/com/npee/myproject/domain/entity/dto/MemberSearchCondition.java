@@ -0,0 +1,11 @@
+package com.npee.myproject.domain.entity.dto;
+
+import lombok.Data;
+
+@Data
+public class MemberSearchCondition {
+    private String username;
+    private String teamName;
+    private Integer ageGoe;
+    private Integer ageLoe;
+}
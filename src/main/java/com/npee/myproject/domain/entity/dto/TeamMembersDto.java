@@ -0,0 +1,13 @@
+package com.npee.myproject.domain.entity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+@Data
+@AllArgsConstructor
+public class TeamMembersDto {
+    private Long teamId;
+    private String teamName;
+    private Page<MemberTeamDto> members;
+}
@@ -0,0 +1,30 @@
+package com.npee.myproject.repository;
+
+import javax.persistence.EntityManager;
+
+/**
+ * batchSize 건마다 flush/clear 해서 영속성 컨텍스트 크기를 일정하게 유지하며 저장한다. (JDBC batch 와 함께 사용)
+ * 호출 전에 영속 상태였던 엔티티도 준영속이 되므로, 같은 트랜잭션에서 계속 쓰려면 다시 조회해야 한다.
+ */
+final class BatchPersister {
+
+    private BatchPersister() {
+    }
+
+    static <T> int persistAll(EntityManager em, Iterable<T> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+        }
+        int count = 0;
+        for (T entity : entities) {
+            em.persist(entity);
+            if (++count % batchSize == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+        return count;
+    }
+}
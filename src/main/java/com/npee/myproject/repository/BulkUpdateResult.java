@@ -0,0 +1,23 @@
+package com.npee.myproject.repository;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class BulkUpdateResult {
+
+    private final long updatedRows;
+    private final int chunks; // 실제로 행을 바꾼 chunk 수 (비어 있는 id 구간 제외)
+    private final long elapsedMillis;
+
+    public BulkUpdateResult(long updatedRows, int chunks, long elapsedMillis) {
+        this.updatedRows = updatedRows;
+        this.chunks = chunks;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? updatedRows : updatedRows * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,11 @@
+package com.npee.myproject.repository;
+
+/**
+ * Page 의 totalElements 를 채우는 방법.
+ */
+public enum CountStrategy {
+    EXACT,      // select count(...) 를 매번 실행
+    CACHED,     // 쿼리 + 파라미터 단위로 TTL 동안 exact count 재사용
+    ESTIMATED,  // DB 통계(information_schema)의 추정 행 수, 조건 없는 테이블 count 에만 사용
+    CONTENT     // 조회 결과만으로 전체 건수가 확정되어 count 를 생략함 (결과 보고용)
+}
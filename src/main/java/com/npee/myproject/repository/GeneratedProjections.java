@@ -0,0 +1,36 @@
+package com.npee.myproject.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * projection.generated.enabled=true 면 MemberRepositoryCustom 의 findProjectionsBy* (ProjectionSelect) 가 만드는
+ * 닫힌 인터페이스 프로젝션을 JDK 프록시 + Map 대신 생성한 구현 클래스로 만든다. (ProjectionClassGenerator)
+ * projection.generated.types 의 타입은 시작할 때 미리 만들고, 나머지는 처음 사용할 때 만든다.
+ * 적용 범위는 ProjectionSelect 뿐이다. Spring Data 가 직접 만드는 프로젝션 (파생/@Query 쿼리 메서드의 인터페이스 반환값,
+ * 예: findByNativeProjection 의 MemberProjection) 은 Spring Data 의 ProjectionFactory 가 그대로 프록시를 쓴다.
+ */
+@Slf4j
+@Component
+public class GeneratedProjections {
+
+    private final boolean enabled;
+
+    public GeneratedProjections(@Value("${projection.generated.enabled:false}") boolean enabled,
+                                @Value("${projection.generated.types:com.npee.myproject.repository.NestedClosedProjections}") Class<?>[] types) {
+        this.enabled = enabled;
+        if (!enabled) {
+            return;
+        }
+        for (Class<?> type : types) {
+            if (ProjectionSelect.of(type).generated() == null) {
+                log.warn("Projection {} cannot be generated, using proxies", type.getName());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
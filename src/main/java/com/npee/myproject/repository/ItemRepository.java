@@ -3,5 +3,5 @@ package com.npee.myproject.repository;
 import com.npee.myproject.domain.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, String>, ItemRepositoryCustom {
 }
@@ -0,0 +1,18 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Item;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemRepositoryCustom {
+
+    // JpaRepository 의 save 계열을 대신한다. (persist/merge 대신 upsert)
+    <S extends Item> S save(S item);
+
+    <S extends Item> List<S> saveAll(Iterable<S> items);
+
+    <S extends Item> S saveAndFlush(S item);
+
+    void upsertAll(Collection<? extends Item> items);
+}
@@ -0,0 +1,113 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Item;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Item 저장은 모두 upsert 한 문장으로 끝낸다. 식별자를 직접 할당하므로 save() 가 persist/merge 를 고르게 두면
+ * 이미 있는 id 로 만든 인스턴스는 persist 에서 중복 키로 실패하고, detached 인스턴스는 merge 의 사전 select 를 한 번 더 탄다.
+ * 이미 있는 id 는 그대로 두고 없는 id 만 insert 한다. 반환값은 넘긴 인스턴스 그대로이며 영속 상태가 아니다. (저장된 상태는 findById)
+ */
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    private static final String MYSQL_UPSERT =
+            "insert into item (id, created_date, version) values (?, ?, 0) on duplicate key update id = id";
+    // MySQL 외에는 insert ... where not exists 로 대체 (동시 적재 시 원자성은 보장하지 않음)
+    private static final String GENERIC_UPSERT =
+            "insert into item (id, created_date, version) select ?, ?, 0 where not exists (select 1 from item where id = ?)";
+
+    private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private volatile String upsertSql;
+
+    public ItemRepositoryImpl(EntityManager em, JdbcTemplate jdbcTemplate, @Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        this.em = em;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 한 건은 네이티브 쿼리로 보낸다. Hibernate 를 거치므로 대기 중인 Item insert 가 먼저 flush 되고,
+     * 2차 캐시 무효화도 item 테이블로 한정된다.
+     */
+    @Override
+    @Transactional
+    public <S extends Item> S save(S item) {
+        if (em.contains(item)) {
+            return item; // 이미 영속 상태 (insert 예정이거나 DB 에 있음)
+        }
+        String sql = upsertSql();
+        Query query = em.createNativeQuery(sql)
+                .setParameter(1, item.getId())
+                .setParameter(2, Timestamp.valueOf(LocalDateTime.now()));
+        if (GENERIC_UPSERT.equals(sql)) {
+            query.setParameter(3, item.getId());
+        }
+        query.unwrap(NativeQuery.class).addSynchronizedEntityClass(Item.class);
+        query.executeUpdate();
+        return item;
+    }
+
+    @Override
+    @Transactional
+    public <S extends Item> List<S> saveAll(Iterable<S> items) {
+        List<S> result = new ArrayList<>();
+        items.forEach(result::add);
+        upsertAll(result);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public <S extends Item> S saveAndFlush(S item) {
+        S saved = save(item);
+        em.flush();
+        return saved;
+    }
+
+    /**
+     * JDBC 배치로 보낸다. JdbcTemplate 은 영속성 컨텍스트를 모르므로 대기 중인 변경을 먼저 flush 하고, 영속 상태인 Item 은 건너뛴다.
+     */
+    @Override
+    @Transactional
+    public void upsertAll(Collection<? extends Item> items) {
+        em.flush();
+        List<Item> detached = new ArrayList<>(items.size());
+        for (Item item : items) {
+            if (!em.contains(item)) {
+                detached.add(item);
+            }
+        }
+        String sql = upsertSql();
+        boolean generic = GENERIC_UPSERT.equals(sql);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, detached, batchSize, (ps, item) -> {
+            ps.setString(1, item.getId());
+            ps.setTimestamp(2, now);
+            if (generic) {
+                ps.setString(3, item.getId());
+            }
+        });
+    }
+
+    private String upsertSql() {
+        if (upsertSql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            upsertSql = "MySQL".equals(product) ? MYSQL_UPSERT : GENERIC_UPSERT;
+        }
+        return upsertSql;
+    }
+}
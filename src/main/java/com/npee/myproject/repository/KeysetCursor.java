@@ -0,0 +1,59 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (username, member_id) 기준 keyset 페이징의 위치.
+ * 클라이언트에는 {@link #encode()} 로 만든 불투명 토큰만 노출한다.
+ * username 은 null 일 수 있다. (asc 정렬에서 맨 앞) null 은 구분자 없이 id 만 적어 "" 와 구분한다.
+ * 잘못된 토큰이면 {@link #decode(String)} 가 IllegalArgumentException 을 던진다.
+ */
+@Getter
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String username;
+    private final Long id;
+
+    public KeysetCursor(String username, Long id) {
+        this.username = username;
+        this.id = id;
+    }
+
+    public boolean isNullUsername() {
+        return username == null;
+    }
+
+    public static KeysetCursor of(Member member) {
+        return new KeysetCursor(member.getUsername(), member.getId());
+    }
+
+    public String encode() {
+        String raw = username == null ? String.valueOf(id) : id + String.valueOf(SEPARATOR) + username;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return new KeysetCursor(null, Long.valueOf(raw));
+            }
+            Long id = Long.valueOf(raw.substring(0, separator));
+            return new KeysetCursor(raw.substring(separator + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid keyset cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.npee.myproject.repository;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * offset 없이 커서로 이어지는 페이지.
+ * size + 1 건을 조회해서 다음 페이지 존재 여부를 판단하므로 count 쿼리가 필요 없다.
+ */
+@Getter
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private KeysetSlice(List<T> content, String nextCursor) {
+        this.content = Collections.unmodifiableList(content);
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1 건을 읽으므로 size 는 1 이상이어야 한다. (상한은 호출 측에서 정함)
+     */
+    public static int checkSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Keyset page size must be at least 1: " + size);
+        }
+        return size;
+    }
+
+    public static <T> KeysetSlice<T> of(List<T> rows, int size, Function<? super T, KeysetCursor> keyOf) {
+        checkSize(size);
+        if (rows.size() <= size) {
+            return new KeysetSlice<>(rows, null);
+        }
+        List<T> content = new ArrayList<>(rows.subList(0, size));
+        String nextCursor = keyOf.apply(content.get(size - 1)).encode();
+        return new KeysetSlice<>(content, nextCursor);
+    }
+
+    public <U> KeysetSlice<U> map(Function<? super T, ? extends U> converter) {
+        List<U> mapped = new ArrayList<>(content.size());
+        for (T element : content) {
+            mapped.add(converter.apply(element));
+        }
+        return new KeysetSlice<>(mapped, nextCursor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.npee.myproject.repository;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.io.Serializable;
+
+/**
+ * 현재 트랜잭션의 영속성 컨텍스트(1차 캐시)에 이미 올라와 있는 엔티티를 DB 조회 없이 찾는다.
+ */
+final class ManagedEntities {
+
+    private ManagedEntities() {
+    }
+
+    static <T> T find(EntityManager em, Class<T> type, Serializable id) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null; // 트랜잭션 밖의 공유 EntityManager 는 호출마다 새 컨텍스트
+        }
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(type);
+        Object managed = session.getPersistenceContext().getEntity(session.generateEntityKey(id, persister));
+        return type.cast(managed);
+    }
+}
@@ -0,0 +1,125 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * bulkAgePlus 를 id 구간 단위로 나눠 실행한다.
+ * 한 번에 잠그는 행 수를 chunkSize 로 제한하고, commitInterval 개의 chunk 마다 커밋한다.
+ * 영속성 컨텍스트 전체를 비우는 대신 실제로 변경된 Member 만 1차/2차 캐시에서 제거한다.
+ * 호출 측에 이미 트랜잭션이 있으면 그 트랜잭션에 참여하므로 중간 커밋은 일어나지 않는다.
+ */
+@Slf4j
+@Repository
+public class MemberBulkRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultChunkSize;
+    private final int defaultCommitInterval;
+
+    public MemberBulkRepository(PlatformTransactionManager transactionManager,
+                                @Value("${member.bulk.chunk-size:1000}") int defaultChunkSize,
+                                @Value("${member.bulk.commit-interval:10}") int defaultCommitInterval) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultChunkSize = defaultChunkSize;
+        this.defaultCommitInterval = defaultCommitInterval;
+    }
+
+    // MemberRepository / MemberJpaRepository 의 bulkAgePlus 가 사용하는 기본 chunk 설정
+    public BulkUpdateResult bulkAgePlus(int age) {
+        return bulkAgePlus(age, defaultChunkSize, defaultCommitInterval);
+    }
+
+    public BulkUpdateResult bulkAgePlus(int age, int chunkSize, int commitInterval) {
+        if (chunkSize <= 0 || commitInterval <= 0) {
+            throw new IllegalArgumentException("chunkSize and commitInterval must be positive");
+        }
+        long startedAt = System.currentTimeMillis();
+
+        Object[] range = transactionTemplate.execute(status -> (Object[]) em.createQuery(
+                "select min(m.id), max(m.id) from Member m where m.age >= :age")
+                .setParameter("age", age)
+                .getSingleResult());
+        if (range == null || range[0] == null) {
+            return new BulkUpdateResult(0, 0, System.currentTimeMillis() - startedAt);
+        }
+        long minId = (Long) range[0];
+        long maxId = (Long) range[1];
+
+        Progress progress = new Progress();
+        long groupSize = (long) chunkSize * commitInterval;
+        for (long from = minId; from <= maxId; from += groupSize) {
+            long groupStart = from;
+            long groupEnd = Math.min(maxId, from + groupSize - 1);
+            transactionTemplate.execute(status -> updateRange(age, groupStart, groupEnd, chunkSize, progress));
+
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.info("bulkAgePlus progress: id {}..{} / {}, updated {} rows in {} chunks, {} ms",
+                    minId, groupEnd, maxId, progress.updatedRows, progress.chunks, elapsed);
+        }
+
+        BulkUpdateResult result = new BulkUpdateResult(progress.updatedRows, progress.chunks, System.currentTimeMillis() - startedAt);
+        log.info("bulkAgePlus done: {}", result);
+        return result;
+    }
+
+    private Progress updateRange(int age, long from, long to, int chunkSize, Progress progress) {
+        em.flush();
+        for (long start = from; start <= to; start += chunkSize) {
+            long end = Math.min(to, start + chunkSize - 1);
+            List<Long> ids = em.createQuery(
+                    "select m.id from Member m where m.age >= :age and m.id between :from and :to", Long.class)
+                    .setParameter("age", age)
+                    .setParameter("from", start)
+                    .setParameter("to", end)
+                    .getResultList();
+            if (ids.isEmpty()) {
+                continue;
+            }
+
+            // 빈 query space 로 동기화해서 Hibernate 가 Member 2차 캐시 region 전체를 비우지 않게 한다.
+            int updated = em.createNativeQuery("update member set age = age + 1, version = version + 1 where member_id in (:ids) and age >= :age")
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace("")
+                    .setParameterList("ids", ids)
+                    .setParameter("age", age)
+                    .executeUpdate();
+            evict(ids);
+            if (updated > 0) {
+                progress.updatedRows += updated;
+                progress.chunks++; // 비어 있는 id 구간은 세지 않는다
+            }
+        }
+        return progress;
+    }
+
+    private void evict(List<Long> ids) {
+        Cache cache = em.getEntityManagerFactory().getCache();
+        for (Long id : ids) {
+            Member managed = ManagedEntities.find(em, Member.class, id);
+            if (managed != null) {
+                em.detach(managed);
+            }
+            cache.evict(Member.class, id);
+        }
+        cache.unwrap(org.hibernate.Cache.class).evictDefaultQueryRegion();
+    }
+
+    private static class Progress {
+        private long updatedRows;
+        private int chunks;
+    }
+}
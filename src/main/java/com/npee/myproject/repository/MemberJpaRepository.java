@@ -5,6 +5,7 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,12 @@ public class MemberJpaRepository {
     @PersistenceContext
     private EntityManager em;
 
+    private final MemberBulkRepository memberBulkRepository;
+
+    public MemberJpaRepository(MemberBulkRepository memberBulkRepository) {
+        this.memberBulkRepository = memberBulkRepository;
+    }
+
     public Member save(Member member) {
         em.persist(member);
         return member;
@@ -64,16 +71,38 @@ public class MemberJpaRepository {
                 .getResultList();
     }
 
+    public KeysetSlice<Member> findByPageAfter(int age, String cursor, int limit) {
+        KeysetSlice.checkSize(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String condition = "";
+        if (after != null) {
+            condition = after.isNullUsername()
+                    ? " and ((m.username is null and m.id > :id) or m.username is not null)"
+                    : " and (m.username > :username or (m.username = :username and m.id > :id))";
+        }
+        String jpql = "select m from Member m where m.age = :age" + condition +
+                " order by m.username asc, m.id asc";
+
+        TypedQuery<Member> query = em.createQuery(jpql, Member.class)
+                .setParameter("age", age)
+                .setMaxResults(limit + 1);
+        if (after != null) {
+            query.setParameter("id", after.getId());
+            if (!after.isNullUsername()) {
+                query.setParameter("username", after.getUsername());
+            }
+        }
+        return KeysetSlice.of(query.getResultList(), limit, KeysetCursor::of);
+    }
+
     public long totalCount(int age) {
         return em.createQuery("select count(m) from Member m where m.age = :age", Long.class)
                 .setParameter("age", age)
                 .getSingleResult();
     }
 
+    // MemberRepository.bulkAgePlus 와 같은 id 구간 단위 실행
     public int bulkAgePlus(int age) {
-        int resultCount = em.createQuery("update Member m set m.age = m.age + 1 where m.age >= :age")
-                .setParameter("age", age)
-                .executeUpdate();
-        return resultCount;
+        return Math.toIntExact(memberBulkRepository.bulkAgePlus(age).getUpdatedRows());
     }
 }
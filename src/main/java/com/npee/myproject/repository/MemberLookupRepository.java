@@ -0,0 +1,143 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * id, username 목록으로 회원을 한 번에 조회한다.
+ *
+ * 입력을 chunkSize 단위 IN 절로 나누고, hibernate.query.in_clause_parameter_padding 으로
+ * 파라미터 수를 2의 거듭제곱에 맞춰 statement 캐시를 재사용한다.
+ * 호출 측 트랜잭션이 있으면 그 영속성 컨텍스트에서 순서대로 조회하고(이미 영속 상태인 id 는 조회 생략),
+ * 없으면 chunk 별로 repositoryExecutor 에서 읽기 전용 트랜잭션으로 동시에 조회한다(결과는 준영속).
+ * repositoryExecutor 의 큐가 차 있으면 TaskRejectedException 으로 실패한다. (호출 스레드에서 대신 실행하지 않음)
+ */
+@Repository
+public class MemberLookupRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public MemberLookupRepository(PlatformTransactionManager transactionManager,
+                                  @Qualifier("repositoryExecutor") Executor executor,
+                                  @Value("${member.multi-get.chunk-size:512}") int chunkSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    public MultiGetResult<Long, Member> findAllById(Collection<Long> ids) {
+        Map<Long, Member> found = new HashMap<>();
+        List<Long> toLoad = new ArrayList<>();
+        for (Long id : distinct(ids)) {
+            Member managed = ManagedEntities.find(em, Member.class, id);
+            if (managed != null) {
+                found.put(id, managed);
+            } else {
+                toLoad.add(id);
+            }
+        }
+
+        for (Member member : load(toLoad, chunk -> em.createQuery(
+                "select m from Member m where m.id in :ids", Member.class)
+                .setParameter("ids", chunk)
+                .getResultList())) {
+            found.put(member.getId(), member);
+        }
+
+        List<Member> content = new ArrayList<>(ids.size());
+        LinkedHashSet<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            Member member = found.get(id);
+            if (member != null) {
+                content.add(member);
+            } else if (id != null) {
+                misses.add(id);
+            }
+        }
+        return new MultiGetResult<>(content, new ArrayList<>(misses));
+    }
+
+    /**
+     * username 은 유일하지 않으므로 username 별로 일치하는 회원을 모두 입력 순서대로 담는다.
+     */
+    public MultiGetResult<String, Member> findAllByUsername(Collection<String> usernames) {
+        List<String> keys = distinct(usernames);
+        Map<String, List<Member>> found = new LinkedHashMap<>();
+        for (Member member : load(keys, chunk -> em.createQuery(
+                "select m from Member m where m.username in :usernames order by m.id", Member.class)
+                .setParameter("usernames", chunk)
+                .getResultList())) {
+            found.computeIfAbsent(member.getUsername(), key -> new ArrayList<>()).add(member);
+        }
+
+        List<Member> content = new ArrayList<>();
+        List<String> misses = new ArrayList<>();
+        for (String username : keys) {
+            List<Member> members = found.get(username);
+            if (members != null) {
+                content.addAll(members);
+            } else {
+                misses.add(username);
+            }
+        }
+        return new MultiGetResult<>(content, misses);
+    }
+
+    private <K> List<Member> load(List<K> keys, Function<List<K>, List<Member>> query) {
+        List<List<K>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            chunks.add(keys.subList(from, Math.min(keys.size(), from + chunkSize)));
+        }
+
+        List<Member> result = new ArrayList<>(keys.size());
+        if (TransactionSynchronizationManager.isActualTransactionActive() || chunks.size() <= 1) {
+            for (List<K> chunk : chunks) {
+                result.addAll(readOnly(query, chunk));
+            }
+            return result;
+        }
+
+        List<CompletableFuture<List<Member>>> futures = new ArrayList<>(chunks.size());
+        for (List<K> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> readOnly(query, chunk), executor));
+        }
+        for (CompletableFuture<List<Member>> future : futures) {
+            result.addAll(future.join());
+        }
+        return result;
+    }
+
+    private <K> List<Member> readOnly(Function<List<K>, List<Member>> query, List<K> chunk) {
+        return readOnlyTransaction.execute(status -> query.apply(chunk));
+    }
+
+    private static <K> List<K> distinct(Collection<K> keys) {
+        LinkedHashSet<K> distinct = new LinkedHashSet<>(keys);
+        distinct.remove(null);
+        return new ArrayList<>(distinct);
+    }
+}
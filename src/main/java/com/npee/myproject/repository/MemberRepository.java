@@ -3,15 +3,19 @@ package com.npee.myproject.repository;
 import com.npee.myproject.domain.entity.Member;
 import com.npee.myproject.domain.entity.dto.MemberTeamDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.LockModeType;
 import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, JpaSpecificationExecutor<Member> {
     List<Member> findByUsernameAndAgeGreaterThan(String username, int age);
@@ -22,6 +26,10 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @Query("select m from Member m where m.username = :username and m.age = :age")
     List<Member> findUser(@Param("username") String username, @Param("age") int age);
 
+    // findListByUsername, Member.findByUsername 과 같은 조건을 @Query 로 정의 (MemberQueryBenchmark 비교용)
+    @Query("select m from Member m where m.username = :username")
+    List<Member> findUserByUsername(@Param("username") String username);
+
     @Query("select m.username from Member m")
     List<String> findUsernameList();
 
@@ -35,13 +43,96 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     Member findMemberByUsername(String username);
     Optional<Member> findOptionalByUsername(String username);
 
+    // 매 페이지 전체 count 를 실행한다. count 방식을 고르려면 findCountedByAge
     @Query(value = "select m from Member m left join m.team t", countQuery = "select count(m) from Member m")
     Page<Member> findByAge(int age, Pageable pageable);
     Slice<Member> getByAge(int age, Pageable pageable);
 
-    @Modifying(clearAutomatically = true) // executeUpdate 수행 애너테이션
-    @Query("update Member m set m.age = m.age + 1 where m.age >= :age")
-    int bulkAgePlus(@Param("age") int age);
+    // Page 대신 Slice 로 content 만 조회하고, 전체 건수는 PageCounter 가 CountStrategy 에 따라 채운다. (findCounted*)
+    Slice<Member> findSliceBy(Pageable pageable);
+    long countByAge(int age);
+
+    // keyset 페이징: (username, id) 순서의 마지막 위치 다음부터 조회하므로 몇 번째 페이지든 비용이 같다.
+    // username 이 null 인 회원은 맨 앞에 오고, 커서가 null 이면 별도 조건으로 이어서 읽는다.
+    // MySQL/H2 는 asc 정렬에서 null 이 먼저 오므로 nulls first 를 쓰지 않는다. (Hibernate 가 MySQL 에서는
+    // order by case when ... is null 로 바꿔서 (username, member_id) 인덱스 순서를 못 쓰고 매 페이지 filesort 가 된다)
+    @Query("select m from Member m where m.age = :age order by m.username asc, m.id asc")
+    List<Member> findKeysetFirstByAge(@Param("age") int age, Pageable pageable);
+
+    @Query("select m from Member m where m.age = :age" +
+            " and (m.username > :username or (m.username = :username and m.id > :id))" +
+            " order by m.username asc, m.id asc")
+    List<Member> findByAgeAfter(@Param("age") int age,
+                                @Param("username") String username,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    @Query("select m from Member m where m.age = :age" +
+            " and ((m.username is null and m.id > :id) or m.username is not null)" +
+            " order by m.username asc, m.id asc")
+    List<Member> findByAgeAfterNullUsername(@Param("age") int age, @Param("id") Long id, Pageable pageable);
+
+    @Query("select m from Member m order by m.username asc, m.id asc")
+    List<Member> findKeysetFirst(Pageable pageable);
+
+    @Query("select m from Member m" +
+            " where m.username > :username or (m.username = :username and m.id > :id)" +
+            " order by m.username asc, m.id asc")
+    List<Member> findAllAfter(@Param("username") String username, @Param("id") Long id, Pageable pageable);
+
+    @Query("select m from Member m" +
+            " where (m.username is null and m.id > :id) or m.username is not null" +
+            " order by m.username asc, m.id asc")
+    List<Member> findAllAfterNullUsername(@Param("id") Long id, Pageable pageable);
+
+    default KeysetSlice<Member> findKeysetByAge(int age, String cursor, int size) {
+        return findKeysetByAgeAfter(age, KeysetCursor.decode(cursor), size);
+    }
+
+    // after 가 null 이면 첫 페이지
+    default KeysetSlice<Member> findKeysetByAgeAfter(int age, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, KeysetSlice.checkSize(size) + 1); // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<Member> rows;
+        if (after == null) {
+            rows = findKeysetFirstByAge(age, limit);
+        } else if (after.isNullUsername()) {
+            rows = findByAgeAfterNullUsername(age, after.getId(), limit);
+        } else {
+            rows = findByAgeAfter(age, after.getUsername(), after.getId(), limit);
+        }
+        return KeysetSlice.of(rows, size, KeysetCursor::of);
+    }
+
+    default KeysetSlice<Member> findKeyset(String cursor, int size) {
+        return findKeysetAfter(KeysetCursor.decode(cursor), size);
+    }
+
+    // after 가 null 이면 첫 페이지
+    default KeysetSlice<Member> findKeysetAfter(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, KeysetSlice.checkSize(size) + 1);
+        List<Member> rows;
+        if (after == null) {
+            rows = findKeysetFirst(limit);
+        } else if (after.isNullUsername()) {
+            rows = findAllAfterNullUsername(after.getId(), limit);
+        } else {
+            rows = findAllAfter(after.getUsername(), after.getId(), limit);
+        }
+        return KeysetSlice.of(rows, size, KeysetCursor::of);
+    }
+
+    // 비동기 조회: repositoryExecutor 스레드에서 각자 트랜잭션으로 실행되므로 결과는 준영속, 필요한 연관은 fetch join
+    @Async("repositoryExecutor")
+    CompletableFuture<List<Member>> findAsyncByUsername(String username);
+
+    @Async("repositoryExecutor")
+    @Query(value = "select m from Member m left join fetch m.team", countQuery = "select count(m) from Member m")
+    CompletableFuture<Page<Member>> findAsyncPageBy(Pageable pageable);
+
+    @Async("repositoryExecutor")
+    @Query(value = "select m from Member m join fetch m.team t where t.id = :teamId",
+            countQuery = "select count(m) from Member m where m.team.id = :teamId")
+    CompletableFuture<Page<Member>> findAsyncByTeamId(@Param("teamId") Long teamId, Pageable pageable);
 
     @Query("select m from Member m join fetch m.team")
     List<Member> findMemberFetchJoin();
@@ -53,18 +144,29 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @EntityGraph("Member.all")
     List<Member> getByUsername(@Param("username") String username);
 
+    @Transactional(readOnly = true)
     @QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"))
     Member queryByUsername(String username);
 
+    // 비관적 락이 꼭 필요한 경우에만 사용 (보통은 @Version + OptimisticRetryTemplate)
+    // 락 대기 시간 제한(ms), MySQL 은 이 힌트 대신 innodb_lock_wait_timeout 을 따른다.
+    @Transactional
     @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "3000"))
     Member findLockByUsername(String username);
 
-    <T> List<T> findProjectionsByUsername(@Param("username") String username, Class<T> type);
-
     @Query(value = "select * from member where username = ?", nativeQuery = true)
     Member findByNativeQuery(String username);
 
-    @Query(value = "select m.member_id as id, m.username, t.name as teamName from member m join team t",
-            countQuery = "select count(*) from member", nativeQuery = true)
+    // 회원당 한 행 (left join 이라 count 는 member 만 세도 같다), NativeQueryValidator 가 시작 시 검사
+    String MEMBER_PROJECTION_SQL =
+            "select m.member_id as id, m.username, t.name as teamName from member m left join team t on m.team_id = t.team_id";
+    String MEMBER_PROJECTION_COUNT_SQL = "select count(*) from member m";
+
+    // 매 페이지 전체 count 를 실행한다. count 방식을 고르려면 findCountedByNativeProjection
+    @Query(value = MEMBER_PROJECTION_SQL, countQuery = MEMBER_PROJECTION_COUNT_SQL, nativeQuery = true)
     Page<MemberProjection> findByNativeProjection(Pageable pageable);
+
+    @Query(value = MEMBER_PROJECTION_SQL, nativeQuery = true)
+    Slice<MemberProjection> findSliceByNativeProjection(Pageable pageable);
 }
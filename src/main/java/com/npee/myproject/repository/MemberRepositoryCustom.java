@@ -1,9 +1,44 @@
 package com.npee.myproject.repository;
 
 import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.dto.MemberProjectionRow;
+import com.npee.myproject.domain.entity.dto.MemberSearchCondition;
+import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MemberRepositoryCustom {
     List<Member> findMemberCustom();
+
+    List<MemberTeamDto> search(MemberSearchCondition condition);
+
+    Page<MemberTeamDto> searchPage(MemberSearchCondition condition, Pageable pageable);
+
+    int saveAllBatched(Iterable<Member> members, int batchSize);
+
+    // MemberBulkRepository 의 기본 chunk 설정으로 나눠 실행, 변경된 행 수를 반환
+    int bulkAgePlus(int age);
+
+    Stream<Member> streamAll(int fetchSize);
+
+    Stream<MemberTeamDto> streamMemberTeam(int fetchSize);
+
+    List<Member> findBySpec(MemberSpecQuery query);
+
+    Page<MemberProjectionRow> findProjectionRows(Pageable pageable);
+
+    // findSliceBy / findByAge / findByNativeProjection 의 CountStrategy 선택 버전
+    CountedPage<Member> findCountedBy(Pageable pageable, CountStrategy count);
+
+    CountedPage<Member> findCountedByAge(int age, Pageable pageable, CountStrategy count);
+
+    CountedPage<MemberProjection> findCountedByNativeProjection(Pageable pageable, CountStrategy count);
+
+    // 프로젝션이 읽는 컬럼만 조회한다. (ProjectionSelect)
+    <T> List<T> findProjectionsByUsername(String username, Class<T> type);
+
+    <T> List<T> findProjectionsByAge(int age, Class<T> type);
 }
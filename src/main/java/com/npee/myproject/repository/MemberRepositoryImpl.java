@@ -1,19 +1,253 @@
 package com.npee.myproject.repository;
 
 import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.dto.MemberProjectionRow;
+import com.npee.myproject.domain.entity.dto.MemberSearchCondition;
+import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.npee.myproject.domain.entity.QMember.member;
+import static com.npee.myproject.domain.entity.QTeam.team;
+import static org.springframework.util.StringUtils.hasText;
 
 @RequiredArgsConstructor
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
+    private static final Map<String, ComparableExpressionBase<?>> SORT_PATHS = sortPaths();
+
     private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+    private final MemberSpecQueryCache specQueryCache;
+    private final GeneratedProjections generatedProjections;
+    private final PageCounter pageCounter;
+    private final MemberBulkRepository memberBulkRepository;
+    private final ObjectProvider<MemberRepository> memberRepository; // 선언된 Slice/count 쿼리를 재사용 (순환 참조라 지연 조회)
+
+    // searchPage 가 정렬할 수 있는 속성 (MemberTeamDto 필드 + age), 허용 목록은 여기 한 곳에만 둔다
+    private static Map<String, ComparableExpressionBase<?>> sortPaths() {
+        Map<String, ComparableExpressionBase<?>> paths = new LinkedHashMap<>();
+        paths.put("id", member.id);
+        paths.put("username", member.username);
+        paths.put("age", member.age);
+        paths.put("teamName", team.name);
+        return Collections.unmodifiableMap(paths);
+    }
 
     @Override
     public List<Member> findMemberCustom() {
-        return em.createQuery("select m from Member m")
+        return queryFactory
+                .selectFrom(member)
+                .fetch();
+    }
+
+    /**
+     * 조건이 null 이거나 비어 있으면 무시한다. 엔티티 대신 필요한 컬럼만 MemberTeamDto 로 바로 조회한다.
+     */
+    @Override
+    public List<MemberTeamDto> search(MemberSearchCondition condition) {
+        return contentQuery(condition)
+                .orderBy(member.id.asc())
+                .fetch();
+    }
+
+    /**
+     * pageable 의 정렬을 적용하고 마지막에 member_id 를 붙여 순서를 고정한다. 정렬이 없으면 member_id 순서로 PK 인덱스를 그대로 탄다.
+     * 정렬 속성은 SORT_PATHS 에 있는 것만 허용한다. (그 외는 IllegalArgumentException)
+     * 첫 페이지가 덜 찼거나 마지막 페이지면 count 쿼리를 생략하고, count 는 팀 이름 조건이 있을 때만 조인한다.
+     */
+    @Override
+    public Page<MemberTeamDto> searchPage(MemberSearchCondition condition, Pageable pageable) {
+        List<MemberTeamDto> content = contentQuery(condition)
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Member> countQuery = queryFactory.selectFrom(member);
+        if (hasText(condition.getTeamName())) {
+            countQuery.join(member.team, team);
+        }
+        countQuery.where(conditions(condition));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchCount);
+    }
+
+    private static OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        boolean orderedById = false;
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = SORT_PATHS.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty()
+                        + " (allowed: " + SORT_PATHS.keySet() + ")");
+            }
+            orders.add(order.isAscending() ? path.asc() : path.desc());
+            orderedById |= path == member.id;
+        }
+        if (!orderedById) {
+            orders.add(member.id.asc());
+        }
+        return orders.toArray(new OrderSpecifier<?>[0]);
+    }
+
+    private JPAQuery<MemberTeamDto> contentQuery(MemberSearchCondition condition) {
+        return queryFactory
+                .select(Projections.constructor(MemberTeamDto.class, member.id, member.username, team.name))
+                .from(member)
+                .leftJoin(member.team, team)
+                .where(conditions(condition));
+    }
+
+    private BooleanExpression[] conditions(MemberSearchCondition condition) {
+        return new BooleanExpression[]{
+                hasText(condition.getUsername()) ? member.username.eq(condition.getUsername()) : null,
+                hasText(condition.getTeamName()) ? team.name.eq(condition.getTeamName()) : null,
+                condition.getAgeGoe() != null ? member.age.goe(condition.getAgeGoe()) : null,
+                condition.getAgeLoe() != null ? member.age.loe(condition.getAgeLoe()) : null
+        };
+    }
+
+    /**
+     * batchSize 건마다 flush/clear 한다. (BatchPersister, batchSize 는 1 이상)
+     */
+    @Override
+    @Transactional
+    public int saveAllBatched(Iterable<Member> members, int batchSize) {
+        return BatchPersister.persistAll(em, members, batchSize);
+    }
+
+    /**
+     * 서버 커서(forward-only scroll)로 한 건씩 읽고 바로 준영속으로 만들어 힙 사용량을 일정하게 유지한다.
+     * 스트림은 커넥션을 붙잡고 있으므로 호출 측 트랜잭션 안에서 소비하고 반드시 close 해야 한다.
+     * MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetchSize 가 서버 커서로 동작한다.
+     */
+    /**
+     * 한 번의 UPDATE 로 전체를 잠그지 않도록 id 구간 단위로 나눠 실행한다. 영속성 컨텍스트는 바뀐 Member 만 비운다.
+     */
+    @Override
+    public int bulkAgePlus(int age) {
+        return Math.toIntExact(memberBulkRepository.bulkAgePlus(age).getUpdatedRows());
+    }
+
+    @Override
+    public Stream<Member> streamAll(int fetchSize) {
+        return em.createQuery("select m from Member m left join fetch m.team", Member.class)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream()
+                .map(this::detach);
+    }
+
+    /**
+     * streamAll 과 같이 커서로 읽지만, 엔티티 대신 DTO 를 바로 만들어 영속성 컨텍스트를 거치지 않는다.
+     */
+    @Override
+    public Stream<MemberTeamDto> streamMemberTeam(int fetchSize) {
+        return em.createQuery("select new com.npee.myproject.domain.entity.dto.MemberTeamDto(m.id, m.username, t.name)" +
+                " from Member m left join m.team t order by m.id", MemberTeamDto.class)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * MemberSpec 조합과 같은 조건으로 조회하되, 조합별 JPQL 은 MemberSpecQueryCache 에서 가져오고 값만 바인딩한다.
+     */
+    @Override
+    public List<Member> findBySpec(MemberSpecQuery query) {
+        TypedQuery<Member> typedQuery = em.createQuery(specQueryCache.jpql(query), Member.class);
+        query.values().forEach((filter, value) -> typedQuery.setParameter(filter.parameter, value));
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * findByNativeProjection 과 같은 SQL 이지만 행마다 프록시 대신 MemberProjectionRow 를 바로 만든다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<MemberProjectionRow> findProjectionRows(Pageable pageable) {
+        List<MemberProjectionRow> content = em.createNativeQuery(
+                MemberRepository.MEMBER_PROJECTION_SQL + " order by m.member_id", "MemberProjectionRow")
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
                 .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> ((Number) em.createNativeQuery(
+                MemberRepository.MEMBER_PROJECTION_COUNT_SQL).getSingleResult()).longValue());
+    }
+
+    /**
+     * findCounted* 는 Slice 로 content 만 읽고 전체 건수는 PageCounter 가 CountStrategy 에 따라 채운다.
+     * content 와 count 가 같은 스냅샷을 보도록 한 트랜잭션에서 실행한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CountedPage<Member> findCountedBy(Pageable pageable, CountStrategy count) {
+        MemberRepository repository = memberRepository.getObject();
+        return pageCounter.toPage(repository.findSliceBy(pageable), count,
+                PageCounter.key("Member.count"), "member", repository::count);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CountedPage<Member> findCountedByAge(int age, Pageable pageable, CountStrategy count) {
+        MemberRepository repository = memberRepository.getObject();
+        // 조건이 있는 count 라 ESTIMATED 는 CACHED 로 대체된다. (table = null)
+        return pageCounter.toPage(repository.getByAge(age, pageable), count,
+                PageCounter.key("Member.countByAge", age), null, () -> repository.countByAge(age));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CountedPage<MemberProjection> findCountedByNativeProjection(Pageable pageable, CountStrategy count) {
+        MemberRepository repository = memberRepository.getObject();
+        // MEMBER_PROJECTION_COUNT_SQL 과 같은 건수 (left join 이라 회원당 한 행)
+        return pageCounter.toPage(repository.findSliceByNativeProjection(pageable), count,
+                PageCounter.key("Member.count"), "member", repository::count);
+    }
+
+    /**
+     * Member 엔티티와 Team 조인 대신 프로젝션에 필요한 컬럼만 조회해서 만든다. (열린 인터페이스만 읽기 전용 엔티티 조회)
+     */
+    @Override
+    public <T> List<T> findProjectionsByUsername(String username, Class<T> type) {
+        return ProjectionSelect.of(type)
+                .list(em, "Member", "m.username = :username", Collections.singletonMap("username", username),
+                        generatedProjections.isEnabled());
+    }
+
+    @Override
+    public <T> List<T> findProjectionsByAge(int age, Class<T> type) {
+        return ProjectionSelect.of(type)
+                .list(em, "Member", "m.age = :age", Collections.singletonMap("age", age),
+                        generatedProjections.isEnabled());
+    }
+
+    private Member detach(Member member) {
+        em.detach(member);
+        if (member.getTeam() != null) {
+            em.detach(member.getTeam());
+        }
+        return member;
     }
 }
@@ -8,6 +8,10 @@ import org.springframework.util.StringUtils;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
 
+/**
+ * 값이 비어 있으면(null, "") 조건을 적용하지 않는다. MemberSpecQuery 도 같은 규칙이며,
+ * 두 경로의 결과가 같은지는 MemberRepositoryTest.specQueryMatchesSpecification 에서 확인한다.
+ */
 public class MemberSpec {
 
     public static Specification<Member> teamName(final String teamName) {
@@ -23,8 +27,17 @@ public class MemberSpec {
         };
     }
 
+    // 같은 조건을 JPQL 캐시로 실행 (memberRepository.findBySpec(MemberSpec.query().username(..).teamName(..)))
+    public static MemberSpecQuery query() {
+        return MemberSpecQuery.where();
+    }
+
     public static Specification<Member> username(final String username) {
-        return (Specification<Member>) (root, query, builder) ->
-            builder.equal(root.get("username"), username);
+        return (Specification<Member>) (root, query, builder) -> {
+            if (StringUtils.isEmpty(username)) {
+                return null;
+            }
+            return builder.equal(root.get("username"), username);
+        };
     }
 }
@@ -0,0 +1,69 @@
+package com.npee.myproject.repository;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MemberSpec 조건 조합을 값과 분리해서 표현한다.
+ * 조건 조합(shape)이 같으면 같은 JPQL 을 쓰므로 {@link MemberSpecQueryCache} 에서 한 번만 만들고 값만 바인딩한다.
+ * 조건은 MemberSpec 과 같다. 값이 비어 있는(null, "") 조건은 적용하지 않고, teamName 은 inner join 이다.
+ * Filter 를 추가하거나 바꾸면 MemberSpec 도 같이 바꿔야 한다. (MemberRepositoryTest.specQueryMatchesSpecification)
+ */
+public final class MemberSpecQuery {
+
+    enum Filter {
+        USERNAME("username", "", "m.username = :username"),
+        TEAM_NAME("teamName", " join m.team t", "t.name = :teamName");
+
+        final String parameter;
+        final String join;
+        final String condition;
+
+        Filter(String parameter, String join, String condition) {
+            this.parameter = parameter;
+            this.join = join;
+            this.condition = condition;
+        }
+    }
+
+    private final Map<Filter, Object> values;
+
+    private MemberSpecQuery(Map<Filter, Object> values) {
+        this.values = values;
+    }
+
+    public static MemberSpecQuery where() {
+        return new MemberSpecQuery(Collections.emptyMap());
+    }
+
+    public MemberSpecQuery username(String username) {
+        return with(Filter.USERNAME, username);
+    }
+
+    public MemberSpecQuery teamName(String teamName) {
+        return with(Filter.TEAM_NAME, teamName);
+    }
+
+    Set<Filter> shape() {
+        return values.isEmpty() ? EnumSet.noneOf(Filter.class) : EnumSet.copyOf(values.keySet());
+    }
+
+    Map<Filter, Object> values() {
+        return values;
+    }
+
+    private MemberSpecQuery with(Filter filter, String value) {
+        EnumMap<Filter, Object> copy = values.isEmpty() ? new EnumMap<>(Filter.class) : new EnumMap<>(values);
+        if (StringUtils.isEmpty(value)) {
+            copy.remove(filter);
+        } else {
+            copy.put(filter, value);
+        }
+        return new MemberSpecQuery(copy);
+    }
+}
@@ -0,0 +1,69 @@
+package com.npee.myproject.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MemberSpecQuery 의 조건 조합(shape)별로 만든 JPQL 을 보관한다. (LRU, 최대 maxEntries 개)
+ * Criteria 트리를 매번 만들고 렌더링하는 대신 같은 JPQL 문자열을 재사용하므로
+ * Hibernate 쿼리 플랜 캐시도 그대로 적중한다.
+ * member.spec.query.cache{result=hit|miss}, member.spec.query.cache.size
+ */
+@Component
+public class MemberSpecQueryCache {
+
+    private final Map<Set<MemberSpecQuery.Filter>, String> queries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public MemberSpecQueryCache(MeterRegistry registry,
+                                @Value("${member.spec.query.cache-max-entries:64}") int maxEntries) {
+        this.queries = Collections.synchronizedMap(new LinkedHashMap<Set<MemberSpecQuery.Filter>, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Set<MemberSpecQuery.Filter>, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.hits = Counter.builder("member.spec.query.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("member.spec.query.cache").tag("result", "miss").register(registry);
+        Gauge.builder("member.spec.query.cache.size", queries, Map::size).register(registry);
+    }
+
+    public String jpql(MemberSpecQuery query) {
+        Set<MemberSpecQuery.Filter> shape = query.shape();
+        String jpql = queries.get(shape);
+        if (jpql != null) {
+            hits.increment();
+            return jpql;
+        }
+        misses.increment();
+        jpql = compile(shape);
+        queries.put(shape, jpql); // shape() 는 매번 새 EnumSet 이므로 그대로 키로 쓴다.
+        return jpql;
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    private static String compile(Set<MemberSpecQuery.Filter> shape) {
+        StringBuilder jpql = new StringBuilder("select m from Member m");
+        for (MemberSpecQuery.Filter filter : shape) {
+            jpql.append(filter.join);
+        }
+        String prefix = " where ";
+        for (MemberSpecQuery.Filter filter : shape) {
+            jpql.append(prefix).append(filter.condition);
+            prefix = " and ";
+        }
+        return jpql.toString();
+    }
+}
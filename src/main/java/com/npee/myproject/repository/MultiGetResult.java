@@ -0,0 +1,21 @@
+package com.npee.myproject.repository;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 여러 키로 한 번에 조회한 결과, content 는 입력 키 순서를 따른다.
+ */
+@Getter
+public class MultiGetResult<K, T> {
+
+    private final List<T> content;
+    private final List<K> misses;
+
+    public MultiGetResult(List<T> content, List<K> misses) {
+        this.content = Collections.unmodifiableList(content);
+        this.misses = Collections.unmodifiableList(misses);
+    }
+}
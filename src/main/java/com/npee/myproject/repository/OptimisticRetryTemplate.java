@@ -0,0 +1,77 @@
+package com.npee.myproject.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * @Version 충돌(OptimisticLockException)이 나면 새 트랜잭션에서 처음부터 다시 실행한다.
+ * 재시도 간격은 지수적으로 늘리고 jitter 를 섞어 같은 행을 고치는 스레드들이 다시 동시에 부딪히지 않게 한다.
+ * 항상 REQUIRES_NEW 로 실행하므로 호출 측 트랜잭션과 별개로 커밋된다.
+ * optimistic.retry{result=retried|exhausted}
+ */
+@Slf4j
+@Component
+public class OptimisticRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Counter retried;
+    private final Counter exhausted;
+
+    public OptimisticRetryTemplate(PlatformTransactionManager transactionManager,
+                                   MeterRegistry registry,
+                                   @Value("${optimistic.retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${optimistic.retry.initial-backoff-ms:5}") long initialBackoffMs,
+                                   @Value("${optimistic.retry.max-backoff-ms:200}") long maxBackoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retried = Counter.builder("optimistic.retry").tag("result", "retried").register(registry);
+        this.exhausted = Counter.builder("optimistic.retry").tag("result", "exhausted").register(registry);
+    }
+
+    /**
+     * @param work 조회부터 수정까지 한 번의 시도, 재시도 시 다시 호출되므로 최신 상태를 다시 읽어야 한다
+     */
+    public <T> T execute(Supplier<T> work) {
+        long backoff = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retried.increment();
+                log.debug("Optimistic lock conflict, retry {}/{}", attempt, maxAttempts - 1);
+                sleep(ThreadLocalRandom.current().nextLong(backoff + 1)); // full jitter
+                backoff = Math.min(maxBackoffMs, backoff * 2);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
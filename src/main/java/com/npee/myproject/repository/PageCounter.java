@@ -0,0 +1,157 @@
+package com.npee.myproject.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Slice 로 조회한 content 에 {@link CountStrategy} 에 따라 전체 건수를 붙여 Page 로 만든다.
+ */
+@Component
+public class PageCounter {
+
+    private static final String MYSQL_ESTIMATE =
+            "select table_rows from information_schema.tables where table_schema = database() and table_name = ?";
+    private static final String H2_ESTIMATE =
+            "select row_count_estimate from information_schema.tables where upper(table_name) = upper(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentMap<String, CachedCount> cache = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(); // 같은 ms 에 들어온 항목의 순서
+
+    public PageCounter(JdbcTemplate jdbcTemplate,
+                       @Value("${page.count.cache-ttl-ms:30000}") long ttlMillis,
+                       @Value("${page.count.cache-max-entries:1000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public static String key(String query, Object... params) {
+        return query + Arrays.toString(params);
+    }
+
+    /**
+     * @param cacheKey   CACHED 전략의 캐시 키, {@link #key(String, Object...)} 로 쿼리와 파라미터를 묶는다
+     * @param table      ESTIMATED 전략에 사용할 테이블, 조건이 있는 count 라면 null (CACHED 로 대체)
+     * @param exactCount 실제 count 쿼리
+     */
+    public <T> CountedPage<T> toPage(Slice<T> slice, CountStrategy strategy,
+                                     String cacheKey, String table, LongSupplier exactCount) {
+        List<T> content = slice.getContent();
+        Pageable pageable = slice.getPageable();
+
+        if (pageable.isUnpaged()) {
+            return new CountedPage<>(content, pageable, content.size(), CountStrategy.CONTENT);
+        }
+        // 마지막 페이지이거나 첫 페이지가 덜 찼으면 count 없이 전체 건수를 알 수 있다.
+        if (!slice.hasNext() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            return new CountedPage<>(content, pageable, pageable.getOffset() + content.size(), CountStrategy.CONTENT);
+        }
+
+        if (strategy == CountStrategy.ESTIMATED && table != null) {
+            Long estimate = estimate(table);
+            if (estimate != null) {
+                // 추정치가 현재 페이지보다 작으면 page 메타데이터가 어긋나므로 최소값 보정
+                long atLeast = pageable.getOffset() + content.size() + (slice.hasNext() ? 1 : 0);
+                return new CountedPage<>(content, pageable, Math.max(estimate, atLeast), CountStrategy.ESTIMATED);
+            }
+        }
+        if (strategy == CountStrategy.CACHED || strategy == CountStrategy.ESTIMATED) {
+            return new CountedPage<>(content, pageable, cachedCount(cacheKey, exactCount), CountStrategy.CACHED);
+        }
+        return new CountedPage<>(content, pageable, exactCount.getAsLong(), CountStrategy.EXACT);
+    }
+
+    public void evict(String cacheKey) {
+        cache.remove(cacheKey);
+    }
+
+    private long cachedCount(String cacheKey, LongSupplier exactCount) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = cache.get(cacheKey);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        long count = exactCount.getAsLong();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            // 전부 비우면 다음 요청들이 한꺼번에 exact count 를 치므로 가장 오래된 것만 하나씩 뺀다.
+            while (cache.size() >= maxEntries) {
+                if (!evictOldest()) {
+                    break;
+                }
+            }
+        }
+        cache.put(cacheKey, new CachedCount(count, now + ttlMillis, sequence.incrementAndGet()));
+        return count;
+    }
+
+    private boolean evictOldest() {
+        Map.Entry<String, CachedCount> oldest = null;
+        for (Map.Entry<String, CachedCount> entry : cache.entrySet()) {
+            if (oldest == null || entry.getValue().sequence < oldest.getValue().sequence) {
+                oldest = entry;
+            }
+        }
+        return oldest != null && cache.remove(oldest.getKey(), oldest.getValue());
+    }
+
+    // 테스트용
+    int cachedCountSize() {
+        return cache.size();
+    }
+
+    private Long estimate(String table) {
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+                String product = con.getMetaData().getDatabaseProductName();
+                String sql;
+                if ("MySQL".equals(product)) {
+                    sql = MYSQL_ESTIMATE;
+                } else if ("H2".equals(product)) {
+                    sql = H2_ESTIMATE;
+                } else {
+                    return null;
+                }
+                try (PreparedStatement ps = con.prepareStatement(sql)) {
+                    ps.setString(1, table);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        return rs.next() ? rs.getLong(1) : null;
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            return null; // 통계를 읽을 수 없으면 CACHED 로 대체
+        }
+    }
+
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+        private final long sequence;
+
+        private CachedCount(long count, long expiresAt, long sequence) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.npee.myproject.repository;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static net.bytebuddy.matcher.ElementMatchers.is;
+
+/**
+ * 닫힌 프로젝션 인터페이스의 구현 클래스를 만든다. (필드 + 모든 필드를 받는 생성자 + getter)
+ * JDK 프록시와 Map 대신 행마다 객체 하나만 만들고 getter 는 필드를 바로 읽는다.
+ */
+final class ProjectionClassGenerator {
+
+    private ProjectionClassGenerator() {
+    }
+
+    /**
+     * @return 생성자 (파라미터 순서는 properties 순서), 프로퍼티 getter 외의 추상 메서드가 있으면 null
+     */
+    static <T> Constructor<? extends T> generate(Class<T> type, List<PropertyDescriptor> properties) {
+        Set<Method> getters = new HashSet<>();
+        for (PropertyDescriptor property : properties) {
+            getters.add(property.getReadMethod());
+        }
+        for (Method method : type.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers()) && !getters.contains(method)) {
+                return null;
+            }
+        }
+
+        Class<?>[] parameterTypes = new Class<?>[properties.size()];
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .implement(type)
+                .name(type.getName() + "$Generated");
+        try {
+            Implementation.Composable constructor = MethodCall.invoke(Object.class.getConstructor());
+            for (int i = 0; i < properties.size(); i++) {
+                PropertyDescriptor property = properties.get(i);
+                parameterTypes[i] = property.getPropertyType();
+                builder = builder
+                        .defineField(property.getName(), property.getPropertyType(), Visibility.PRIVATE, FieldManifestation.FINAL)
+                        .method(is(property.getReadMethod()))
+                        .intercept(FieldAccessor.ofField(property.getName()));
+                constructor = constructor.andThen(FieldAccessor.ofField(property.getName()).setsArgumentAt(i));
+            }
+            Class<? extends Object> generated = builder
+                    .defineConstructor(Visibility.PUBLIC)
+                    .withParameters(parameterTypes)
+                    .intercept(constructor)
+                    .make()
+                    .load(type.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+            return generated.asSubclass(type).getConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot generate projection class for " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.npee.myproject.repository;
+
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 프로젝션 타입이 실제로 읽는 컬럼만 select 절에 넣는다.
+ * 엔티티를 만들지 않으므로 영속성 컨텍스트 등록과 변경 감지 스냅샷 비용이 없다.
+ *
+ * - 닫힌 인터페이스 (중첩 인터페이스 포함): 스칼라 Tuple 조회 후 Map 기반 프로젝션,
+ *   중첩 프로젝션은 left join 대상의 id 를 함께 읽어 연관이 없을 때만 null 로 만든다 (컬럼 값이 모두 null 이어도 연관이 있으면 객체),
+ *   generated 면 ProjectionClassGenerator 로 만든 구현 클래스 (GeneratedProjections)
+ * - DTO 클래스: 생성자 파라미터 이름으로 select new 생성자 표현식
+ * - 열린 인터페이스 (@Value SpEL): 어떤 컬럼이 필요한지 알 수 없으므로 읽기 전용 엔티티 조회
+ */
+final class ProjectionSelect<T> {
+
+    private static final String ROOT = "m";
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+    private static final ConcurrentMap<Class<?>, ProjectionSelect<?>> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final Mode mode;
+    private final Map<String, String> joins = new LinkedHashMap<>(); // property -> join alias
+    private final String selectClause;
+    private final List<PropertyDescriptor> properties = new ArrayList<>();          // 최상위 프로퍼티
+    private final Map<String, List<PropertyDescriptor>> nestedProperties = new HashMap<>();
+    private volatile GeneratedRow<T> generated;
+
+    private enum Mode { TUPLE, CONSTRUCTOR, ENTITY }
+
+    @SuppressWarnings("unchecked")
+    static <T> ProjectionSelect<T> of(Class<T> type) {
+        return (ProjectionSelect<T>) CACHE.computeIfAbsent(type, ProjectionSelect::new);
+    }
+
+    private ProjectionSelect(Class<T> type) {
+        this.type = type;
+        if (!type.isInterface()) {
+            this.mode = Mode.CONSTRUCTOR;
+            this.selectClause = constructorExpression(type);
+            return;
+        }
+
+        ProjectionInformation information = PROJECTION_FACTORY.getProjectionInformation(type);
+        if (!information.isClosed()) {
+            this.mode = Mode.ENTITY;
+            this.selectClause = ROOT;
+            return;
+        }
+
+        this.mode = Mode.TUPLE;
+        List<String> selections = new ArrayList<>();
+        for (PropertyDescriptor property : information.getInputProperties()) {
+            properties.add(property);
+            Class<?> propertyType = property.getPropertyType();
+            if (isNestedProjection(propertyType)) {
+                String alias = "j_" + property.getName();
+                joins.put(property.getName(), alias);
+                List<PropertyDescriptor> nestedInputs = PROJECTION_FACTORY.getProjectionInformation(propertyType).getInputProperties();
+                nestedProperties.put(property.getName(), nestedInputs);
+                selections.add(alias + ".id"); // 연관 존재 여부
+                for (PropertyDescriptor nested : nestedInputs) {
+                    selections.add(alias + "." + nested.getName());
+                }
+            } else {
+                selections.add(ROOT + "." + property.getName());
+            }
+        }
+        this.selectClause = String.join(", ", selections);
+    }
+
+    List<T> list(EntityManager em, String entityName, String where, Map<String, Object> parameters) {
+        return list(em, entityName, where, parameters, false);
+    }
+
+    /**
+     * @param useGenerated 닫힌 인터페이스면 Map 기반 프록시 대신 생성된 구현 클래스로 만든다
+     */
+    List<T> list(EntityManager em, String entityName, String where, Map<String, Object> parameters, boolean useGenerated) {
+        StringBuilder jpql = new StringBuilder("select ").append(selectClause)
+                .append(" from ").append(entityName).append(' ').append(ROOT);
+        joins.forEach((property, alias) ->
+                jpql.append(" left join ").append(ROOT).append('.').append(property).append(' ').append(alias));
+        jpql.append(" where ").append(where);
+
+        switch (mode) {
+            case CONSTRUCTOR:
+                return bind(em.createQuery(jpql.toString(), type), parameters).getResultList();
+            case ENTITY:
+                List<Object> entities = bind(em.createQuery(jpql.toString(), Object.class), parameters)
+                        .setHint("org.hibernate.readOnly", true)
+                        .getResultList();
+                List<T> projected = new ArrayList<>(entities.size());
+                for (Object entity : entities) {
+                    projected.add(PROJECTION_FACTORY.createProjection(type, entity));
+                }
+                return projected;
+            default:
+                List<Tuple> tuples = bind(em.createQuery(jpql.toString(), Tuple.class), parameters).getResultList();
+                List<T> rows = new ArrayList<>(tuples.size());
+                GeneratedRow<T> row = useGenerated ? generated() : null;
+                if (row != null) {
+                    for (Tuple tuple : tuples) {
+                        rows.add(row.create(tuple));
+                    }
+                    return rows;
+                }
+                for (Tuple tuple : tuples) {
+                    rows.add(PROJECTION_FACTORY.createProjection(type, toMap(tuple)));
+                }
+                return rows;
+        }
+    }
+
+    /**
+     * 구현 클래스를 만들어 둔다. 만들 수 없는 타입(DTO, 열린 인터페이스, getter 외 추상 메서드)이면 null
+     */
+    GeneratedRow<T> generated() {
+        if (mode != Mode.TUPLE) {
+            return null;
+        }
+        GeneratedRow<T> row = generated;
+        if (row == null) {
+            synchronized (this) {
+                if (generated == null) {
+                    generated = GeneratedRow.of(type, properties, nestedProperties);
+                }
+                row = generated;
+            }
+        }
+        return row.constructor == null ? null : row;
+    }
+
+    /**
+     * Tuple 의 컬럼 순서대로 생성자 인자를 채운다. 중첩 프로젝션은 앞에 읽은 연관 id 가 null 이면 null
+     */
+    static final class GeneratedRow<T> {
+
+        private final Constructor<? extends T> constructor;
+        private final Constructor<?>[] nestedConstructors; // 최상위 프로퍼티별, 스칼라면 null
+        private final int[] nestedSizes;
+
+        private GeneratedRow(Constructor<? extends T> constructor, Constructor<?>[] nestedConstructors, int[] nestedSizes) {
+            this.constructor = constructor;
+            this.nestedConstructors = nestedConstructors;
+            this.nestedSizes = nestedSizes;
+        }
+
+        static <T> GeneratedRow<T> of(Class<T> type, List<PropertyDescriptor> properties,
+                                      Map<String, List<PropertyDescriptor>> nestedProperties) {
+            Constructor<?>[] nestedConstructors = new Constructor<?>[properties.size()];
+            int[] nestedSizes = new int[properties.size()];
+            for (int i = 0; i < properties.size(); i++) {
+                List<PropertyDescriptor> nested = nestedProperties.get(properties.get(i).getName());
+                if (nested == null) {
+                    continue;
+                }
+                nestedConstructors[i] = ProjectionClassGenerator.generate(properties.get(i).getPropertyType(), nested);
+                nestedSizes[i] = nested.size();
+                if (nestedConstructors[i] == null) {
+                    return new GeneratedRow<>(null, null, null);
+                }
+            }
+            return new GeneratedRow<>(ProjectionClassGenerator.generate(type, properties), nestedConstructors, nestedSizes);
+        }
+
+        T create(Tuple tuple) {
+            Object[] arguments = new Object[nestedSizes.length];
+            int column = 0;
+            for (int i = 0; i < arguments.length; i++) {
+                if (nestedConstructors[i] == null) {
+                    arguments[i] = tuple.get(column++);
+                    continue;
+                }
+                boolean present = tuple.get(column++) != null;
+                Object[] nestedArguments = new Object[nestedSizes[i]];
+                for (int j = 0; j < nestedArguments.length; j++) {
+                    nestedArguments[j] = tuple.get(column++);
+                }
+                arguments[i] = present ? instantiate(nestedConstructors[i], nestedArguments) : null;
+            }
+            return instantiate(constructor, arguments);
+        }
+
+        private static <R> R instantiate(Constructor<? extends R> constructor, Object[] arguments) {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot create projection " + constructor.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+
+    private Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new HashMap<>();
+        int column = 0;
+        for (PropertyDescriptor property : properties) {
+            List<PropertyDescriptor> nested = nestedProperties.get(property.getName());
+            if (nested == null) {
+                row.put(property.getName(), tuple.get(column++));
+                continue;
+            }
+            // left join 대상이 없으면(id 가 null) 중첩 프로젝션도 null
+            Map<String, Object> values = tuple.get(column++) == null ? null : new HashMap<>();
+            for (PropertyDescriptor nestedProperty : nested) {
+                Object value = tuple.get(column++);
+                if (values != null) {
+                    values.put(nestedProperty.getName(), value);
+                }
+            }
+            row.put(property.getName(), values);
+        }
+        return row;
+    }
+
+    private static <Q extends TypedQuery<?>> Q bind(Q query, Map<String, Object> parameters) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static boolean isNestedProjection(Class<?> propertyType) {
+        return propertyType.isInterface()
+                && !propertyType.getName().startsWith("java.");
+    }
+
+    private static String constructorExpression(Class<?> type) {
+        PreferredConstructor<?, ?> constructor = PreferredConstructorDiscoverer.discover(type);
+        if (constructor == null) {
+            throw new IllegalArgumentException("No constructor usable for projection: " + type.getName());
+        }
+        List<String> arguments = new ArrayList<>();
+        for (PreferredConstructor.Parameter<Object, ?> parameter : constructor.getParameters()) {
+            arguments.add(ROOT + "." + parameter.getName());
+        }
+        return "new " + type.getName() + "(" + String.join(", ", arguments) + ")";
+    }
+}
@@ -2,6 +2,7 @@ package com.npee.myproject.repository;
 
 import com.npee.myproject.domain.entity.Team;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
@@ -19,6 +20,11 @@ public class TeamJpaRepository {
         return team;
     }
 
+    @Transactional
+    public int saveAllBatched(Iterable<Team> teams, int batchSize) {
+        return BatchPersister.persistAll(em, teams, batchSize);
+    }
+
     public void delete(Team team) {
         em.remove(team);
     }
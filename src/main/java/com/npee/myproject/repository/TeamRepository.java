@@ -2,6 +2,13 @@ package com.npee.myproject.repository;
 
 import com.npee.myproject.domain.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    @Async("repositoryExecutor")
+    CompletableFuture<Optional<Team>> findAsyncById(Long id);
 }
@@ -0,0 +1,89 @@
+package com.npee.myproject.advice;
+
+import com.npee.myproject.config.response.CommonResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorCatalogTest {
+
+    private final ErrorCatalog catalog = new ErrorCatalog("i18n/exception");
+
+    @Test
+    public void localeToBundle() {
+        CommonResult ko = catalog.get(ErrorCode.USER_NOT_EXISTS, Locale.KOREAN);
+        CommonResult en = catalog.get(ErrorCode.USER_NOT_EXISTS, Locale.ENGLISH);
+
+        assertThat(ko.isSuccess()).isFalse();
+        assertThat(ko.getCode()).isEqualTo(-1000);
+        assertThat(ko.getMessage()).isEqualTo("존재하지 않는 회원입니다");
+        assertThat(en.getCode()).isEqualTo(-1000);
+        assertThat(en.getMessage()).isEqualTo("The user does NOT exist.");
+        assertThat(catalog.get(ErrorCode.USER_NOT_EXISTS, Locale.KOREA)).isSameAs(ko); // ko_KR -> ko 번들
+
+        // 번들이 없는 로케일은 ResourceBundle 규칙대로 기본 로케일 번들로 넘어간다
+        assertThat(catalog.get(ErrorCode.USER_NOT_EXISTS, Locale.FRENCH))
+                .isSameAs(catalog.get(ErrorCode.USER_NOT_EXISTS, Locale.getDefault()));
+    }
+
+    @Test
+    public void defaultCodes() {
+        ErrorCatalog partial = new ErrorCatalog("i18n/catalog");
+
+        CommonResult noCode = partial.get(ErrorCode.USER_NOT_EXISTS, Locale.KOREAN);
+        assertThat(noCode.getCode()).isEqualTo(ErrorCode.USER_NOT_EXISTS.getCode()); // yml 에 code 가 없으면 ErrorCode 기본값
+        assertThat(noCode.getMessage()).isEqualTo("코드 없는 메시지");
+
+        CommonResult missing = partial.get(ErrorCode.SIGNIN_FAILED, Locale.KOREAN);
+        assertThat(missing.getCode()).isEqualTo(ErrorCode.SIGNIN_FAILED.getCode());
+        assertThat(missing.getMessage()).isEqualTo(ErrorCode.SIGNIN_FAILED.getKey());
+    }
+
+    @Test
+    public void missingBundleDoesNotUseRootKey() {
+        ErrorCatalog missing = new ErrorCatalog("i18n/nothing");
+
+        CommonResult result = missing.get(ErrorCode.UNKNOWN, Locale.KOREAN);
+
+        assertThat(result.getCode()).isEqualTo(ErrorCode.UNKNOWN.getCode());
+        assertThat(missing.getLoadedLocales()).doesNotContain(Locale.ROOT);
+    }
+
+    @Test
+    public void sharedAndImmutable() {
+        CommonResult first = catalog.get(ErrorCode.UNKNOWN, Locale.KOREAN);
+        CommonResult second = catalog.get(ErrorCode.UNKNOWN, Locale.KOREAN);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.setMessage("changed")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.setCode(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.setSuccess(true)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void reload() {
+        CommonResult before = catalog.get(ErrorCode.UNKNOWN, Locale.KOREAN);
+        assertThat(catalog.getLoadedLocales()).isNotEmpty();
+
+        catalog.reload();
+        assertThat(catalog.getLoadedLocales()).isEmpty();
+
+        CommonResult after = catalog.get(ErrorCode.UNKNOWN, Locale.KOREAN);
+        assertThat(after).isNotSameAs(before); // 다시 읽어서 새로 만든다
+        assertThat(after.getCode()).isEqualTo(before.getCode());
+        assertThat(after.getMessage()).isEqualTo(before.getMessage());
+    }
+
+    @Test
+    public void requestedLocalesAreBounded() {
+        for (int i = 0; i < ErrorCatalog.MAX_CACHED_LOCALES * 2; i++) {
+            CommonResult result = catalog.get(ErrorCode.UNKNOWN, new Locale("ko", "X" + i));
+            assertThat(result.getCode()).isEqualTo(-9999);
+        }
+
+        assertThat(catalog.cachedLocaleCount()).isEqualTo(ErrorCatalog.MAX_CACHED_LOCALES);
+    }
+}
@@ -0,0 +1,45 @@
+package com.npee.myproject.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorConfigurationTest {
+
+    @Test
+    public void rejectsWhenQueueIsFull() throws Exception {
+        ThreadPoolTaskExecutor executor = new ExecutorConfiguration().repositoryExecutor(1, 1);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+            started.await();
+            executor.execute(() -> await(release)); // 큐
+
+            Thread[] ranOn = new Thread[1];
+            assertThatThrownBy(() -> executor.execute(() -> ranOn[0] = Thread.currentThread()))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(ranOn[0]).isNull(); // 호출 스레드에서 실행하지 않음
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.npee.myproject.config;
+
+import com.npee.myproject.config.datasource.ReplicaLagMonitor;
+import com.npee.myproject.config.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setUp() {
+        DataSource primary = node("primary");
+        replica = node("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, replicaAvailable::get));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    public void routing() {
+        assertThat(readWrite.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(currentNode()).isEqualTo("primary"); // 트랜잭션 밖
+    }
+
+    @Test
+    public void fallbackToPrimary() {
+        replicaAvailable.set(false);
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("primary");
+
+        replicaAvailable.set(true);
+        assertThat(readOnly.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    public void lagMonitor() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 5, 0);
+        monitor.check();
+        assertThat(monitor.isAvailable()).isTrue();
+        assertThat(monitor.getLastLagSeconds()).isZero();
+
+        ReplicaLagMonitor broken = new ReplicaLagMonitor(
+                new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/none", "sa", ""), 5, 0);
+        broken.check();
+        assertThat(broken.isAvailable()).isFalse();
+        broken.destroy();
+        monitor.destroy();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.update("delete from node");
+        template.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
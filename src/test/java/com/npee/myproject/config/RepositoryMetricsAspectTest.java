@@ -0,0 +1,56 @@
+package com.npee.myproject.config;
+
+import com.npee.myproject.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RepositoryMetricsAspectTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    public void outerCallOnly() {
+        long outerBefore = count("findKeyset");
+        long innerBefore = count("findKeysetFirst");
+
+        memberRepository.findKeyset(null, 2);
+        memberRepository.findKeyset(null, 2);
+
+        assertThat(count("findKeyset")).isEqualTo(outerBefore + 2);
+        assertThat(count("findKeysetFirst")).isEqualTo(innerBefore); // default 메서드 안의 호출은 따로 세지 않음
+    }
+
+    @Test
+    public void metersAreReused() {
+        memberRepository.count();
+        Timer first = timer("count");
+        memberRepository.count();
+
+        assertThat(timer("count")).isSameAs(first);
+        assertThat(meterRegistry.find("repository.invocations")
+                .tag("repository", "MemberRepository").tag("method", "count").timers()).hasSize(1);
+    }
+
+    private long count(String method) {
+        Timer timer = meterRegistry.find("repository.invocations")
+                .tag("repository", "MemberRepository").tag("method", method).tag("exception", "none").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private Timer timer(String method) {
+        return meterRegistry.get("repository.invocations")
+                .tag("repository", "MemberRepository").tag("method", method).tag("exception", "none").timer();
+    }
+}
@@ -0,0 +1,80 @@
+package com.npee.myproject.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestAuditorAwareTest {
+
+    private static final String GATEWAY = "10.0.0.1";
+
+    private final RequestAuditorAware principalOnly = new RequestAuditorAware();
+    private final RequestAuditorAware withHeader = new RequestAuditorAware("X-User-Id", Collections.singleton(GATEWAY));
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void principal() {
+        MockHttpServletRequest request = bind();
+        request.setUserPrincipal(() -> "member1");
+        request.addHeader("X-User-Id", "admin");
+        request.setRemoteAddr(GATEWAY);
+
+        assertThat(withHeader.getCurrentAuditor()).contains("member1"); // 인증 정보가 헤더보다 우선
+    }
+
+    @Test
+    public void header() {
+        MockHttpServletRequest request = bind();
+        request.addHeader("X-User-Id", "admin");
+        assertThat(principalOnly.getCurrentAuditor()).isEqualTo(RequestAuditorAware.ANONYMOUS); // 헤더 사용 안 함
+
+        request = bind();
+        request.addHeader("X-User-Id", "admin");
+        assertThat(withHeader.getCurrentAuditor()).isEqualTo(RequestAuditorAware.ANONYMOUS); // 게이트웨이가 아닌 주소
+
+        request = bind();
+        request.setRemoteAddr(GATEWAY);
+        request.addHeader("X-User-Id", "admin");
+        assertThat(withHeader.getCurrentAuditor()).contains("admin");
+
+        request = bind();
+        request.setRemoteAddr(GATEWAY);
+        request.addHeader("X-User-Id", new String(new char[1000]).replace('\0', 'a'));
+        Optional<String> auditor = withHeader.getCurrentAuditor();
+        assertThat(auditor.get()).hasSize(RequestAuditorAware.MAX_LENGTH); // 컬럼 길이로 자른다
+    }
+
+    @Test
+    public void anonymous() {
+        bind();
+        assertThat(principalOnly.getCurrentAuditor()).isEqualTo(RequestAuditorAware.ANONYMOUS);
+
+        MockHttpServletRequest request = bind();
+        request.setRemoteAddr(GATEWAY);
+        request.addHeader("X-User-Id", " ");
+        assertThat(withHeader.getCurrentAuditor()).isEqualTo(RequestAuditorAware.ANONYMOUS);
+    }
+
+    @Test
+    public void outsideRequest() {
+        assertThat(principalOnly.getCurrentAuditor()).isEqualTo(RequestAuditorAware.SYSTEM);
+        assertThat(withHeader.getCurrentAuditor()).isEqualTo(RequestAuditorAware.SYSTEM);
+    }
+
+    private MockHttpServletRequest bind() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+}
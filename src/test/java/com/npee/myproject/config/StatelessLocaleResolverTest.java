@@ -0,0 +1,67 @@
+package com.npee.myproject.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatelessLocaleResolverTest {
+
+    private final StatelessLocaleResolver resolver = new StatelessLocaleResolver("X-Locale", Locale.KOREAN);
+
+    @Test
+    public void resolutionOrder() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.KOREAN); // 아무 정보도 없으면 기본값
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "en");
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.ENGLISH);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Language", "en");
+        request.setCookies(new Cookie("LOCALE", "ja"));
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.JAPANESE);
+
+        request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("LOCALE", "ja"));
+        request.addHeader("X-Locale", "en");
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.ENGLISH);
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    public void malformedHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Locale", "en-US,en;q=0.9");
+        request.setCookies(new Cookie("LOCALE", "ja"));
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.JAPANESE); // 헤더를 무시하고 쿠키
+
+        request = new MockHttpServletRequest();
+        request.addHeader("X-Locale", "%%junk%%");
+        request.addHeader("Accept-Language", "en");
+        assertThat(resolver.resolveLocaleContext(request).getLocale()).isEqualTo(Locale.ENGLISH);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("X-Locale", "ko;q=1");
+        assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.KOREAN); // 기본값
+    }
+
+    @Test
+    public void changeLocaleWithoutSession() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.addHeader("X-Locale", "ko");
+        assertThat(resolver.resolveLocaleContext(request).getLocale()).isEqualTo(Locale.KOREAN);
+
+        resolver.setLocale(request, response, Locale.ENGLISH); // ?lang=en
+
+        assertThat(resolver.resolveLocaleContext(request).getLocale()).isEqualTo(Locale.ENGLISH);
+        assertThat(response.getCookie("LOCALE").getValue()).isEqualTo("en");
+        assertThat(request.getSession(false)).isNull();
+    }
+}
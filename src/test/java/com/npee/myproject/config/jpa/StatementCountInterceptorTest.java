@@ -0,0 +1,35 @@
+package com.npee.myproject.config.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountInterceptorTest {
+
+    private final StatementCountInterceptor interceptor = new StatementCountInterceptor(5);
+
+    @Test
+    public void clearsCounterWhenAsyncHandlingStarts() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/teams/1/members");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        assertThat(StatementCounter.isActive()).isTrue();
+
+        // 비동기 처리가 시작되면 이 디스패치에서는 afterCompletion 이 불리지 않는다
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        assertThat(StatementCounter.isActive()).isFalse(); // 요청 스레드에 남지 않음
+    }
+
+    @Test
+    public void clearsCounterAfterCompletion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/members");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(StatementCounter.isActive()).isFalse();
+    }
+}
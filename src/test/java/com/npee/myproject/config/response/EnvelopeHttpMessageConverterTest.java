@@ -0,0 +1,104 @@
+package com.npee.myproject.config.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.npee.myproject.domain.entity.dto.MemberTeamDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnvelopeHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final EnvelopeHttpMessageConverter converter = new EnvelopeHttpMessageConverter(objectMapper);
+    private final ResponseService responseService = new ResponseService();
+
+    private final List<MemberTeamDto> members = Arrays.asList(
+            new MemberTeamDto(1L, "member1", "teamA"),
+            new MemberTeamDto(2L, "member2", null));
+
+    @Test
+    public void sameJsonAsJackson() throws IOException {
+        ListResult<MemberTeamDto> list = responseService.getListResult(members);
+        assertThat(write(list)).isEqualTo(objectMapper.writeValueAsString(list));
+
+        SingleResult<MemberTeamDto> single = responseService.getSingleResult(members.get(0));
+        assertThat(write(single)).isEqualTo(objectMapper.writeValueAsString(single));
+
+        CommonResult success = responseService.getSuccessResult();
+        assertThat(write(success)).isEqualTo(objectMapper.writeValueAsString(success));
+
+        CommonResult fail = responseService.getFailResult(-1000, "실패 메시지");
+        assertThat(write(fail)).isEqualTo(objectMapper.writeValueAsString(fail));
+    }
+
+    @Test
+    public void streamingList() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        ListResult<MemberTeamDto> result = responseService.getListResult(members.stream().onClose(() -> closed.set(true)));
+
+        String expected = objectMapper.writeValueAsString(responseService.getListResult(members));
+        assertThat(write(result)).isEqualTo(expected);
+        assertThat(closed).isTrue(); // 다 쓰면 stream 을 닫는다
+
+        // 컨버터를 거치지 않으면 getList() 에서 List 로 모은다
+        assertThat(objectMapper.writeValueAsString(responseService.getListResult(Stream.of(members.get(0)))))
+                .isEqualTo(objectMapper.writeValueAsString(responseService.getListResult(members.subList(0, 1))));
+    }
+
+    @Test
+    public void keepsResponseStreamOpen() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream body = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        HttpOutputMessage message = new HttpOutputMessage() {
+            private final HttpHeaders headers = new HttpHeaders();
+
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+
+        CommonResult fail = responseService.getFailResult(-1000, "실패 메시지");
+        converter.write(fail, MediaType.APPLICATION_JSON, message);
+
+        assertThat(closed).isFalse(); // 실패 응답 경로도 스트림을 닫지 않는다
+        assertThat(body.toString("UTF-8")).isEqualTo(objectMapper.writeValueAsString(fail));
+    }
+
+    @Test
+    public void sharedSuccessResultIsImmutable() {
+        assertThat(responseService.getSuccessResult()).isSameAs(responseService.getSuccessResult());
+        assertThatThrownBy(() -> responseService.getSuccessResult().setCode(1))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private String write(CommonResult result) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(result, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString();
+    }
+}
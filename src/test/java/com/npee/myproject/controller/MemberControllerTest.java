@@ -0,0 +1,52 @@
+package com.npee.myproject.controller;
+
+import com.npee.myproject.advice.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    public void keysetRejectsMalformedCursor() throws Exception {
+        String notBase64 = "!!!";
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("abc:user".getBytes(StandardCharsets.UTF_8)); // id 자리가 숫자가 아님
+
+        for (String cursor : new String[]{notBase64, tampered}) {
+            mockMvc.perform(get("/members/keyset").param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_PARAMETER.getCode()));
+        }
+    }
+
+    @Test
+    public void searchRejectsUnsupportedSort() throws Exception {
+        mockMvc.perform(get("/members/search").param("sort", "team.id"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_PARAMETER.getCode()));
+        mockMvc.perform(get("/members/search").param("sort", "username,desc"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void keysetRejectsInvalidSize() throws Exception {
+        mockMvc.perform(get("/members/keyset").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_PARAMETER.getCode()));
+    }
+}
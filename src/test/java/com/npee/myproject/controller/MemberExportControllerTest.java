@@ -0,0 +1,121 @@
+package com.npee.myproject.controller;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.Team;
+import com.npee.myproject.repository.MemberRepository;
+import com.npee.myproject.repository.TeamRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 서버(Tomcat)로 요청해 비동기 타임아웃을 확인한다. 기본 타임아웃을 100ms 로 줄이고 원소마다 60ms 씩 늦춘다.
+ * 서버 스레드가 읽을 수 있도록 데이터를 커밋하므로 @Transactional 을 붙이지 않고 직접 지운다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=100ms")
+class MemberExportControllerTest {
+
+    private static final int MEMBERS = 5;
+    private static final long DELAY_MS = 60;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    private Team team;
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        team = teamRepository.save(new Team("exportTeam"));
+        for (int i = 1; i <= MEMBERS; i++) {
+            members.add(memberRepository.save(new Member("export" + i, 15, team)));
+        }
+        members.add(memberRepository.save(new Member("export,\r\nline", 15, team)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        memberRepository.deleteAll(members);
+        teamRepository.delete(team);
+    }
+
+    @Test
+    public void exportOutlivesDefaultAsyncTimeout() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/members/export", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        for (int i = 1; i <= MEMBERS; i++) {
+            assertThat(response.getBody()).contains("\"username\":\"export" + i + "\"");
+        }
+    }
+
+    @Test
+    public void streamOutlivesDefaultAsyncTimeout() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/members/stream", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        for (int i = 1; i <= MEMBERS; i++) {
+            assertThat(response.getBody()).contains("\"username\":\"export" + i + "\",\"teamName\":\"exportTeam\"");
+        }
+    }
+
+    @Test
+    public void csvQuotesLineBreaks() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/members/export?format=csv", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"export,\r\nline\",15,exportTeam\n");
+    }
+
+    /**
+     * 커서에서 읽는 원소마다 지연을 넣어 응답이 기본 타임아웃보다 오래 걸리게 한다
+     */
+    @TestConfiguration
+    static class SlowStreamConfiguration {
+
+        @Bean
+        SlowStreamAspect slowStreamAspect() {
+            return new SlowStreamAspect();
+        }
+    }
+
+    @Aspect
+    static class SlowStreamAspect {
+
+        @Around("execution(* com.npee.myproject.repository.MemberRepositoryCustom.stream*(..))")
+        public Object delay(ProceedingJoinPoint joinPoint) throws Throwable {
+            return ((Stream<?>) joinPoint.proceed()).peek(element -> sleep());
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.npee.myproject.controller;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member.export.timeout 이 지나면 내보내기를 끝까지 기다리지 않는다. (원소마다 60ms, 회원 5명 이상 > 100ms)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "member.export.timeout=100")
+@Import(MemberExportControllerTest.SlowStreamConfiguration.class)
+class MemberExportTimeoutTest {
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            members.add(memberRepository.save(new Member("timeout" + i, 15, null)));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        memberRepository.deleteAll(members);
+    }
+
+    @Test
+    public void exportTimesOut() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/members/export", String.class);
+
+        // 첫 flush 전에 타임아웃이 나므로 회원 행 없이 오류로 끝난다
+        assertThat(response.getStatusCode().isError()).isTrue();
+        assertThat(response.getBody()).doesNotContain("\"username\":\"timeout5\"");
+    }
+}
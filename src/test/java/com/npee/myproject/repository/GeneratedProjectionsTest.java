@@ -0,0 +1,48 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import com.npee.myproject.domain.entity.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성 프로젝션을 켠 컨텍스트에서 repository 의 findProjectionsBy* 가 생성된 클래스를 반환하는지 확인한다.
+ */
+@SpringBootTest(properties = "projection.generated.enabled=true")
+@Transactional
+class GeneratedProjectionsTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    public void findProjectionsUsesGeneratedClasses() {
+        // given
+        Team team = new Team("generatedTeam");
+        em.persist(team);
+        em.persist(new Member("generatedRepo1", 0, team));
+        em.flush();
+        em.clear();
+
+        // when
+        List<NestedClosedProjections> result =
+                memberRepository.findProjectionsByUsername("generatedRepo1", NestedClosedProjections.class);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(Proxy.isProxyClass(result.get(0).getClass())).isFalse();
+        assertThat(Proxy.isProxyClass(result.get(0).getTeam().getClass())).isFalse();
+        assertThat(result.get(0).getTeam().getName()).isEqualTo("generatedTeam");
+    }
+}
@@ -1,11 +1,14 @@
 package com.npee.myproject.repository;
 
+import com.npee.myproject.config.jpa.StatementCounter;
 import com.npee.myproject.domain.entity.Item;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class ItemRepositoryTest {
@@ -18,4 +21,49 @@ class ItemRepositoryTest {
         Item item = new Item("A");
         itemRepository.save(item);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void saveStatements() {
+        // 새 Item 저장은 upsert 한 번, merge 용 select 없음
+        StatementCounter.start();
+        Item item = itemRepository.save(new Item("statement-1"));
+        StatementCounter.Stats fresh = StatementCounter.stop();
+
+        assertThat(fresh.getSelectCount()).isZero();
+        assertThat(fresh.getInsertCount()).isEqualTo(1);
+
+        // detached 인스턴스를 다시 저장해도 select 없이 upsert 한 번
+        StatementCounter.start();
+        itemRepository.save(item);
+        StatementCounter.Stats detached = StatementCounter.stop();
+
+        assertThat(detached.getSelectCount()).isZero();
+        assertThat(detached.getInsertCount()).isEqualTo(1);
+
+        // 이미 있는 id 로 새로 만든 인스턴스도 중복 키 예외 없이 upsert 한 번
+        StatementCounter.start();
+        itemRepository.save(new Item("statement-1"));
+        StatementCounter.Stats existingId = StatementCounter.stop();
+
+        assertThat(existingId.getSelectCount()).isZero();
+        assertThat(existingId.getInsertCount()).isEqualTo(1);
+        assertThat(existingId.getTotal()).isEqualTo(1);
+        assertThat(itemRepository.findById("statement-1")).isPresent();
+    }
+
+    @Test
+    public void saveAllSkipsExistingIds() {
+        itemRepository.saveAll(Arrays.asList(new Item("saveAll-1"), new Item("saveAll-2")));
+        itemRepository.saveAll(Arrays.asList(new Item("saveAll-2"), new Item("saveAll-3")));
+
+        assertThat(itemRepository.findAllById(Arrays.asList("saveAll-1", "saveAll-2", "saveAll-3"))).hasSize(3);
+    }
+
+    @Test
+    public void upsertAll() {
+        itemRepository.upsertAll(Arrays.asList(new Item("upsert-1"), new Item("upsert-2")));
+        itemRepository.upsertAll(Arrays.asList(new Item("upsert-2"), new Item("upsert-3")));
+
+        assertThat(itemRepository.findAllById(Arrays.asList("upsert-1", "upsert-2", "upsert-3"))).hasSize(3);
+    }
+}
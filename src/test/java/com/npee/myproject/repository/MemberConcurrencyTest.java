@@ -0,0 +1,92 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트랜잭션 없이 여러 스레드가 각자 커밋해야 하므로 @Transactional 을 붙이지 않는다.
+ * 기본 재시도 횟수(5)로는 4개 스레드가 한 행을 두고 부딪힐 때 재시도가 바닥날 수 있어 넉넉히 늘린다.
+ */
+@SpringBootTest(properties = "optimistic.retry.max-attempts=100")
+class MemberConcurrencyTest {
+
+    private static final int THREADS = 4;
+    private static final int UPDATES_PER_THREAD = 5;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    OptimisticRetryTemplate optimisticRetryTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Member member;
+
+    @AfterEach
+    public void tearDown() {
+        if (member != null) {
+            memberRepository.deleteById(member.getId());
+        }
+    }
+
+    @Test
+    public void optimisticRetry() throws Exception {
+        // given
+        member = memberRepository.save(new Member("concurrent", 0, null));
+        Long id = member.getId();
+        double exhaustedBefore = exhausted();
+
+        // when: 같은 회원을 동시에 수정, 충돌한 쪽은 다시 읽고 재시도
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                for (int j = 0; j < UPDATES_PER_THREAD; j++) {
+                    optimisticRetryTemplate.execute(() -> {
+                        Member found = memberRepository.findById(id).get();
+                        found.setAge(found.getAge() + 1);
+                        return found;
+                    });
+                }
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        // then: 갱신 손실 없음
+        Member updated = memberRepository.findById(id).get();
+        assertThat(updated.getAge()).isEqualTo(THREADS * UPDATES_PER_THREAD);
+        assertThat(updated.getVersion()).isEqualTo(member.getVersion() + THREADS * UPDATES_PER_THREAD);
+        assertThat(exhausted()).isEqualTo(exhaustedBefore); // 재시도가 바닥난 수정 없음
+    }
+
+    private double exhausted() {
+        return meterRegistry.get("optimistic.retry").tag("result", "exhausted").counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -121,6 +121,24 @@ class MemberJpaRepositoryTest {
 
     }
 
+    @Test
+    public void keysetPaging() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            memberJpaRepository.save(new Member("jpaKeyset" + i, 12, null));
+        }
+
+        // when
+        KeysetSlice<Member> first = memberJpaRepository.findByPageAfter(12, null, 3);
+        KeysetSlice<Member> next = memberJpaRepository.findByPageAfter(12, first.getNextCursor(), 3);
+
+        // then
+        assertThat(first.getContent().size()).isEqualTo(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(next.getContent().size()).isEqualTo(2);
+        assertThat(next.isHasNext()).isFalse();
+    }
+
     @Test
     public void bulkUpdate() {
         // given
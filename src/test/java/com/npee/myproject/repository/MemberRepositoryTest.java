@@ -1,24 +1,38 @@
 package com.npee.myproject.repository;
 
+import com.npee.myproject.config.jpa.StatementCounter;
 import com.npee.myproject.domain.entity.Member;
 import com.npee.myproject.domain.entity.Team;
+import com.npee.myproject.domain.entity.dto.MemberProjectionRow;
+import com.npee.myproject.domain.entity.dto.MemberSearchCondition;
 import com.npee.myproject.domain.entity.dto.MemberTeamDto;
 import org.assertj.core.api.Assertions;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -30,6 +44,21 @@ class MemberRepositoryTest {
 
     @Autowired
     TeamRepository teamRepository;
+
+    @Autowired
+    PageCounter pageCounter;
+
+    @Autowired
+    MemberBulkRepository memberBulkRepository;
+
+    @Autowired
+    MemberLookupRepository memberLookupRepository;
+
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    MemberSpecQueryCache memberSpecQueryCache;
     
     @PersistenceContext
     EntityManager em;
@@ -165,6 +194,26 @@ class MemberRepositoryTest {
         assertThat(result.get(1).getUsername()).isEqualTo("BBB");
     }
 
+    @Test
+    void multiGet() {
+        Member m1 = memberRepository.save(new Member("lookup1", 10, null));
+        Member m2 = memberRepository.save(new Member("lookup2", 10, null));
+        Member m3 = memberRepository.save(new Member("lookup3", 10, null));
+        em.flush();
+        em.detach(m2);
+
+        MultiGetResult<Long, Member> byId = memberLookupRepository.findAllById(
+                Arrays.asList(m3.getId(), -1L, m2.getId(), m1.getId()));
+        MultiGetResult<String, Member> byUsername = memberLookupRepository.findAllByUsername(
+                Arrays.asList("lookup2", "lookupX", "lookup1"));
+
+        assertThat(byId.getContent()).extracting("username").containsExactly("lookup3", "lookup2", "lookup1");
+        assertThat(byId.getContent().get(0)).isSameAs(m3); // 영속성 컨텍스트에서 바로 반환
+        assertThat(byId.getMisses()).containsExactly(-1L);
+        assertThat(byUsername.getContent()).extracting("username").containsExactly("lookup2", "lookup1");
+        assertThat(byUsername.getMisses()).containsExactly("lookupX");
+    }
+
     @Test
     void returnTest() {
         Member m1 = new Member("AAA", 10, null);
@@ -236,6 +285,89 @@ class MemberRepositoryTest {
 
     }
 
+    @Test
+    public void countStrategy() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("count" + i, 13, null));
+        }
+        String key = PageCounter.key("Member.countByAge", 13);
+        pageCounter.evict(key);
+        PageRequest firstPage = PageRequest.of(0, 3);
+
+        // when
+        CountedPage<Member> exact = memberRepository.findCountedByAge(13, firstPage, CountStrategy.EXACT);
+        CountedPage<Member> cached = memberRepository.findCountedByAge(13, firstPage, CountStrategy.CACHED);
+        memberRepository.save(new Member("count6", 13, null));
+        CountedPage<Member> cachedAgain = memberRepository.findCountedByAge(13, firstPage, CountStrategy.CACHED);
+        CountedPage<Member> estimated = memberRepository.findCountedByAge(13, firstPage, CountStrategy.ESTIMATED);
+        CountedPage<Member> lastPage = memberRepository.findCountedByAge(13, PageRequest.of(1, 4), CountStrategy.EXACT);
+
+        // then
+        assertThat(exact.getTotalElements()).isEqualTo(5);
+        assertThat(exact.getCountStrategy()).isEqualTo(CountStrategy.EXACT);
+        assertThat(cached.getCountStrategy()).isEqualTo(CountStrategy.CACHED);
+        assertThat(cachedAgain.getTotalElements()).isEqualTo(5); // TTL 안에서는 캐시된 값
+        assertThat(estimated.getCountStrategy()).isEqualTo(CountStrategy.CACHED); // 조건 있는 count 는 추정치 대신 캐시
+        assertThat(lastPage.getTotalElements()).isEqualTo(6);
+        assertThat(lastPage.getCountStrategy()).isEqualTo(CountStrategy.CONTENT);
+    }
+
+    @Test
+    public void keysetPaging() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("keyset" + i, 11, null));
+        }
+
+        // when
+        KeysetSlice<Member> first = memberRepository.findKeysetByAge(11, null, 2);
+        KeysetSlice<Member> second = memberRepository.findKeysetByAge(11, first.getNextCursor(), 2);
+        KeysetSlice<Member> last = memberRepository.findKeysetByAge(11, second.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getContent()).extracting("username").containsExactly("keyset1", "keyset2");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting("username").containsExactly("keyset3", "keyset4");
+        assertThat(last.getContent()).extracting("username").containsExactly("keyset5");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @Rollback // username 이 null 인 회원을 다른 테스트에 남기지 않는다
+    public void keysetPagingWithNullUsername() {
+        // given: username 이 null 인 회원은 맨 앞 (asc 정렬에서 null 이 먼저)
+        Member noName1 = memberRepository.save(new Member(null, 7, null));
+        Member noName2 = memberRepository.save(new Member(null, 7, null));
+        memberRepository.save(new Member("keysetA", 7, null));
+
+        // when
+        KeysetSlice<Member> first = memberRepository.findKeysetByAge(7, null, 1);
+        KeysetSlice<Member> second = memberRepository.findKeysetByAge(7, first.getNextCursor(), 1);
+        KeysetSlice<Member> last = memberRepository.findKeysetByAge(7, second.getNextCursor(), 1);
+        KeysetSlice<Member> jpa = memberJpaRepository.findByPageAfter(7, first.getNextCursor(), 5);
+
+        // then
+        assertThat(first.getContent()).containsExactly(noName1);
+        assertThat(second.getContent()).containsExactly(noName2);
+        assertThat(last.getContent()).extracting("username").containsExactly("keysetA");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(jpa.getContent()).extracting("username").containsExactly(null, "keysetA");
+        assertThat(KeysetCursor.decode(new KeysetCursor("", 1L).encode()).getUsername()).isEmpty(); // "" 와 null 구분
+    }
+
+    @Test
+    public void keysetPagingRejectsInvalidSize() {
+        assertThatThrownBy(() -> memberRepository.findKeyset(null, 0))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberRepository.findKeyset(null, -1))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetSlice.checkSize(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void bulkUpdate() {
         // given
@@ -257,6 +389,123 @@ class MemberRepositoryTest {
         assertThat(resultCount).isEqualTo(3);
     }
 
+    @Test
+    public void saveAllBatched() {
+        // given
+        List<Member> members = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            members.add(new Member("bulk" + i, 14, null));
+        }
+
+        // when
+        int savedCount = memberRepository.saveAllBatched(members, 100);
+
+        // then
+        assertThat(savedCount).isEqualTo(1000);
+        assertThat(memberRepository.countByAge(14)).isEqualTo(1000);
+        assertThat(em.contains(members.get(0))).isFalse(); // flush/clear 로 영속성 컨텍스트가 비워짐
+    }
+
+    @Test
+    public void saveAllBatchedRejectsInvalidBatchSize() {
+        List<Member> members = Collections.singletonList(new Member("batchInvalid", 14, null));
+
+        // 리포지토리 프록시가 IllegalArgumentException 을 InvalidDataAccessApiUsageException 으로 변환
+        assertThatThrownBy(() -> memberRepository.saveAllBatched(members, 0))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void streamAll() {
+        // given
+        Team team = new Team("streamTeam");
+        em.persist(team);
+        for (int i = 1; i <= 3; i++) {
+            em.persist(new Member("stream" + i, 15, team));
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<Member> streamed;
+        try (Stream<Member> members = memberRepository.streamAll(2)) {
+            streamed = members.filter(member -> member.getAge() == 15)
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(streamed.size()).isEqualTo(3);
+        assertThat(em.contains(streamed.get(0))).isFalse(); // 읽은 즉시 준영속
+        assertThat(streamed.get(0).getTeam().getName()).isEqualTo("streamTeam");
+    }
+
+    @Test
+    public void streamMemberTeam() {
+        // given
+        Team team = new Team("streamTeam");
+        em.persist(team);
+        for (int i = 1; i <= 3; i++) {
+            em.persist(new Member("stream" + i, 15, team));
+        }
+        em.persist(new Member("streamNoTeam", 15, null));
+        em.flush();
+        em.clear();
+
+        // when
+        List<MemberTeamDto> streamed;
+        try (Stream<MemberTeamDto> dtos = memberRepository.streamMemberTeam(2)) {
+            streamed = dtos.filter(dto -> dto.getUsername().startsWith("stream"))
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(streamed).extracting("username")
+                .containsExactlyInAnyOrder("stream1", "stream2", "stream3", "streamNoTeam");
+        assertThat(streamed).filteredOn(dto -> dto.getUsername().equals("streamNoTeam"))
+                .extracting("teamName").containsOnlyNulls(); // 팀 없는 회원도 포함 (left join)
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero(); // 엔티티를 만들지 않음
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 비동기 조회는 다른 스레드라 커밋된 데이터만 보인다.
+    public void asyncQueries() {
+        // given
+        Team team = teamRepository.save(new Team("asyncTeam"));
+        memberRepository.save(new Member("async1", 16, team));
+        memberRepository.save(new Member("async2", 16, team));
+
+        // when
+        CompletableFuture<Optional<Team>> foundTeam = teamRepository.findAsyncById(team.getId());
+        CompletableFuture<Page<Member>> page = memberRepository.findAsyncByTeamId(team.getId(), PageRequest.of(0, 1));
+        CompletableFuture<List<Member>> byUsername = memberRepository.findAsyncByUsername("async1");
+
+        // then
+        assertThat(foundTeam.join().get().getName()).isEqualTo("asyncTeam");
+        assertThat(page.join().getTotalElements()).isEqualTo(2);
+        assertThat(page.join().getContent().get(0).getTeam().getName()).isEqualTo("asyncTeam"); // fetch join
+        assertThat(byUsername.join()).extracting("username").containsExactly("async1");
+    }
+
+    @Test
+    public void chunkedBulkUpdate() {
+        // given
+        Member untouched = memberRepository.save(new Member("chunk0", 999, null));
+        Member target = memberRepository.save(new Member("chunk1", 1000, null));
+        memberRepository.save(new Member("chunk2", 1001, null));
+        memberRepository.save(new Member("chunk3", 1002, null));
+
+        // when
+        BulkUpdateResult result = memberBulkRepository.bulkAgePlus(1000, 1, 2);
+
+        // then
+        assertThat(result.getUpdatedRows()).isEqualTo(3);
+        assertThat(result.getChunks()).isEqualTo(3); // chunk 당 한 행, 비어 있는 id 구간은 세지 않음
+        assertThat(em.contains(untouched)).isTrue();   // 변경되지 않은 엔티티는 그대로 영속 상태
+        assertThat(em.contains(target)).isFalse();     // 변경된 엔티티만 1차 캐시에서 제거
+        assertThat(memberRepository.findById(target.getId()).get().getAge()).isEqualTo(1001);
+    }
+
     @Test
     public void findMemberLazy() {
         // given
@@ -284,6 +533,36 @@ class MemberRepositoryTest {
         }
     }
 
+    @Test
+    public void batchFetchTeams() {
+        // given
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Team team = new Team("batchTeam" + i);
+            em.persist(team);
+            for (int j = 1; j <= 2; j++) {
+                String name = "batch" + i + "_" + j;
+                em.persist(new Member(name, 10, team));
+                names.add(name);
+            }
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        StatementCounter.start();
+        List<Member> members = memberRepository.findByNames(names);
+        for (Member member : members) {
+            member.getTeam().getName(); // 지연 로딩
+        }
+        StatementCounter.Stats stats = StatementCounter.stop();
+
+        // then: 회원 조회 1번 + 팀 batch 조회 1번
+        assertThat(members.size()).isEqualTo(6);
+        assertThat(stats.getSelectCount()).isEqualTo(2);
+        stats.assertNoRepeatedSelects(1);
+    }
+
     @Test
     public void queryHint() {
         // given
@@ -337,6 +616,111 @@ class MemberRepositoryTest {
         Assertions.assertThat(result.size()).isEqualTo(1);
     }
 
+    @Test
+    public void querydslSearch() {
+        // given
+        Team team = new Team("searchTeam");
+        em.persist(team);
+        em.persist(new Member("search1", 17, team));
+        em.persist(new Member("search2", 18, team));
+        em.persist(new Member("search3", 19, null));
+        em.flush();
+        em.clear();
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("searchTeam");
+        condition.setAgeGoe(18);
+
+        // when
+        List<MemberTeamDto> result = memberRepository.search(condition);
+        condition.setAgeGoe(null);
+        Page<MemberTeamDto> page = memberRepository.searchPage(condition, PageRequest.of(0, 1));
+
+        // then
+        assertThat(result).extracting("username").containsExactly("search2");
+        assertThat(page.getContent()).extracting("username").containsExactly("search1");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @Rollback // 재실행 시 sortTeam 회원이 누적되지 않게 한다
+    public void querydslSearchSort() {
+        // given
+        Team team = new Team("sortTeam");
+        em.persist(team);
+        em.persist(new Member("sortB", 17, team));
+        em.persist(new Member("sortA", 18, team));
+        em.persist(new Member("sortC", 16, team));
+        em.flush();
+        em.clear();
+
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("sortTeam");
+
+        // when
+        Page<MemberTeamDto> byUsernameDesc = memberRepository.searchPage(condition,
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "username")));
+        Page<MemberTeamDto> unsorted = memberRepository.searchPage(condition, PageRequest.of(0, 3));
+
+        // then
+        assertThat(byUsernameDesc.getContent()).extracting("username").containsExactly("sortC", "sortB", "sortA");
+        assertThat(unsorted.getContent()).extracting("username").containsExactly("sortB", "sortA", "sortC"); // member_id 순서
+        assertThatThrownBy(() -> memberRepository.searchPage(condition, PageRequest.of(0, 3, Sort.by("team.id"))))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void specQueryCache() {
+        // given
+        Team teamA = new Team("specTeam");
+        em.persist(teamA);
+        em.persist(new Member("spec1", 0, teamA));
+        em.persist(new Member("spec2", 0, teamA));
+        em.flush();
+        em.clear();
+
+        // when
+        List<Member> first = memberRepository.findBySpec(MemberSpec.query().username("spec1").teamName("specTeam"));
+        int cached = memberSpecQueryCache.size();
+        List<Member> second = memberRepository.findBySpec(MemberSpec.query().teamName("specTeam").username("spec2"));
+        List<Member> byTeam = memberRepository.findBySpec(MemberSpec.query().teamName("specTeam").username(""));
+
+        // then
+        assertThat(first).extracting("username").containsExactly("spec1");
+        assertThat(second).extracting("username").containsExactly("spec2");
+        assertThat(byTeam).hasSize(2);
+        assertThat(memberSpecQueryCache.size()).isEqualTo(cached + 1); // 순서와 상관없이 같은 조합은 재사용
+    }
+
+    @Test
+    public void specQueryMatchesSpecification() {
+        // given
+        Team team = new Team("parityTeam");
+        em.persist(team);
+        em.persist(new Member("parity1", 0, team));
+        em.persist(new Member("parity2", 0, team));
+        em.persist(new Member("parity1", 0, null));
+        em.flush();
+        em.clear();
+
+        // when, then: 빈 값(null, "")을 포함한 모든 조합에서 Specification 과 캐시된 JPQL 의 결과가 같다
+        List<String> usernames = Arrays.asList(null, "", "parity1", "parity2", "nobody");
+        List<String> teamNames = Arrays.asList(null, "", "parityTeam", "noTeam");
+        for (String username : usernames) {
+            for (String teamName : teamNames) {
+                List<Member> bySpec = memberRepository.findAll(
+                        MemberSpec.username(username).and(MemberSpec.teamName(teamName)));
+                List<Member> byQuery = memberRepository.findBySpec(
+                        MemberSpec.query().username(username).teamName(teamName));
+
+                assertThat(byQuery).as("username=%s, teamName=%s", username, teamName)
+                        .extracting("id").containsExactlyInAnyOrderElementsOf(
+                                bySpec.stream().map(Member::getId).collect(Collectors.toList()));
+            }
+        }
+    }
+
     @Test
     public void queryByExample() {
         // given
@@ -390,6 +774,80 @@ class MemberRepositoryTest {
         }
     }
 
+    @Test
+    public void selectiveProjections() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("selective1", 0, teamA));
+        em.persist(new Member("selective2", 0, null));
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<NestedClosedProjections> nested = memberRepository.findProjectionsByUsername("selective1", NestedClosedProjections.class);
+        List<NestedClosedProjections> withoutTeam = memberRepository.findProjectionsByUsername("selective2", NestedClosedProjections.class);
+        List<UsernameOnlyDto> dto = memberRepository.findProjectionsByUsername("selective1", UsernameOnlyDto.class);
+
+        // then
+        assertThat(nested.get(0).getUsername()).isEqualTo("selective1");
+        assertThat(nested.get(0).getTeam().getName()).isEqualTo("teamA");
+        assertThat(withoutTeam.get(0).getTeam()).isNull();
+        assertThat(dto.get(0).getUsername()).isEqualTo("selective1");
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero(); // 엔티티를 만들지 않음
+
+        List<UsernameOnly> open = memberRepository.findProjectionsByUsername("selective1", UsernameOnly.class);
+        assertThat(open.get(0).getUsername()).isEqualTo("selective1 0");
+    }
+
+    @Test
+    public void generatedProjections() {
+        // given
+        Team teamA = new Team("teamA");
+        em.persist(teamA);
+        em.persist(new Member("generated1", 0, teamA));
+        em.persist(new Member("generated2", 0, null));
+        em.flush();
+        em.clear();
+
+        // when
+        ProjectionSelect<NestedClosedProjections> select = ProjectionSelect.of(NestedClosedProjections.class);
+        NestedClosedProjections withTeam = select.list(em, "Member", "m.username = :username",
+                Collections.singletonMap("username", "generated1"), true).get(0);
+        NestedClosedProjections withoutTeam = select.list(em, "Member", "m.username = :username",
+                Collections.singletonMap("username", "generated2"), true).get(0);
+
+        // then: 프록시가 아닌 생성된 클래스
+        assertThat(Proxy.isProxyClass(withTeam.getClass())).isFalse();
+        assertThat(withTeam.getUsername()).isEqualTo("generated1");
+        assertThat(withTeam.getTeam().getName()).isEqualTo("teamA");
+        assertThat(withoutTeam.getTeam()).isNull();
+        assertThat(ProjectionSelect.of(UsernameOnly.class).generated()).isNull(); // 열린 인터페이스는 대상 아님
+    }
+
+    @Test
+    public void nestedProjectionWithNullColumns() {
+        // given: 팀은 있지만 이름이 null
+        Team unnamed = new Team(null);
+        em.persist(unnamed);
+        em.persist(new Member("unnamedTeam1", 0, unnamed));
+        em.flush();
+        em.clear();
+
+        // when
+        ProjectionSelect<NestedClosedProjections> select = ProjectionSelect.of(NestedClosedProjections.class);
+        Map<String, Object> parameters = Collections.singletonMap("username", "unnamedTeam1");
+        NestedClosedProjections proxied = select.list(em, "Member", "m.username = :username", parameters, false).get(0);
+        NestedClosedProjections generated = select.list(em, "Member", "m.username = :username", parameters, true).get(0);
+
+        // then: 연관 존재 여부는 컬럼 값이 아니라 팀 id 로 판단
+        assertThat(proxied.getTeam()).isNotNull();
+        assertThat(proxied.getTeam().getName()).isNull();
+        assertThat(generated.getTeam()).isNotNull();
+        assertThat(generated.getTeam().getName()).isNull();
+    }
+
     @Test
     public void nativeQuery() {
         // given
@@ -414,4 +872,34 @@ class MemberRepositoryTest {
         }
     }
 
+    @Test
+    public void nativeProjectionRows() {
+        // given
+        Team team = new Team("rowTeam");
+        em.persist(team);
+        em.persist(new Member("row1", 0, team));
+        em.persist(new Member("row2", 0, null));
+        em.flush();
+        em.clear();
+
+        // when
+        long members = memberRepository.count();
+        Page<MemberProjection> proxies = memberRepository.findByNativeProjection(PageRequest.of(0, 10));
+        Page<MemberProjectionRow> rows = memberRepository.findProjectionRows(PageRequest.of(0, 10));
+
+        CountedPage<MemberProjection> counted =
+                memberRepository.findCountedByNativeProjection(PageRequest.of(0, 1), CountStrategy.EXACT);
+
+        // then: 회원당 한 행, content 와 count 가 일치
+        assertThat(proxies.getTotalElements()).isEqualTo(members);
+        assertThat(counted.getTotalElements()).isEqualTo(members);
+        assertThat(counted.getCountStrategy()).isEqualTo(CountStrategy.EXACT);
+        assertThat(counted.getContent()).hasSize(1);
+        assertThat(rows.getTotalElements()).isEqualTo(members);
+        assertThat(rows.getContent()).extracting("id").doesNotHaveDuplicates();
+        assertThat(memberRepository.findProjectionRows(PageRequest.of(0, (int) members)).getContent())
+                .filteredOn(row -> row.getUsername().startsWith("row"))
+                .extracting("teamName").containsExactlyInAnyOrder("rowTeam", null);
+    }
+
 }
\ No newline at end of file
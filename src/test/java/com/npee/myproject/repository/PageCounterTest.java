@@ -0,0 +1,39 @@
+package com.npee.myproject.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCounterTest {
+
+    private final PageCounter pageCounter = new PageCounter(null, 60_000, 2);
+    private final AtomicInteger exactCounts = new AtomicInteger();
+
+    @Test
+    public void evictsOldestWhenFull() {
+        count("a");
+        count("b");
+        count("c"); // 가득 차서 a 만 빠진다
+        assertThat(pageCounter.cachedCountSize()).isEqualTo(2);
+        assertThat(exactCounts.get()).isEqualTo(3);
+
+        count("b");
+        count("c");
+        assertThat(exactCounts.get()).isEqualTo(3); // 남은 항목은 그대로 캐시
+
+        count("a");
+        assertThat(exactCounts.get()).isEqualTo(4);
+        assertThat(pageCounter.cachedCountSize()).isEqualTo(2);
+    }
+
+    private long count(String key) {
+        // 다음 페이지가 있는 첫 페이지라 content 만으로는 전체 건수를 알 수 없다
+        SliceImpl<String> slice = new SliceImpl<>(Collections.singletonList(key), PageRequest.of(0, 1), true);
+        return pageCounter.toPage(slice, CountStrategy.CACHED, key, null, exactCounts::incrementAndGet).getTotalElements();
+    }
+}
@@ -0,0 +1,111 @@
+package com.npee.myproject.repository;
+
+import com.npee.myproject.domain.entity.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시를 켠 컨텍스트에서 확인한다.
+ * findById 마다 새 영속성 컨텍스트에서 조회해야 하므로 @Transactional 을 붙이지 않고 직접 지운다.
+ */
+@SpringBootTest(properties = "jpa.second-level-cache.enabled=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Cache cache;
+    private Statistics statistics;
+    private Long id;
+
+    @BeforeEach
+    public void setUp() {
+        cache = emf.getCache();
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        id = memberRepository.save(new Member("cached", 3, null)).getId();
+        cache.evict(Member.class);
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (memberRepository.existsById(id)) {
+            memberRepository.deleteById(id);
+        }
+    }
+
+    @Test
+    public void findByIdHitsCache() {
+        memberRepository.findById(id); // miss -> 캐시에 넣음
+        long statements = statistics.getPrepareStatementCount();
+
+        Member member = memberRepository.findById(id).get(); // 새 영속성 컨텍스트
+
+        assertThat(member.getUsername()).isEqualTo("cached");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements); // SQL 없음
+        assertThat(regionHits()).isEqualTo(1);
+        assertThat(cache.contains(Member.class, id)).isTrue();
+    }
+
+    @Test
+    public void saveRefreshesAndDeleteEvicts() {
+        Member member = memberRepository.findById(id).get();
+        member.setAge(4);
+        memberRepository.save(member);
+
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(memberRepository.findById(id).get().getAge()).isEqualTo(4); // 수정한 값이 캐시에 반영됨
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+        memberRepository.deleteById(id);
+        assertThat(cache.contains(Member.class, id)).isFalse();
+    }
+
+    @Test
+    public void bulkUpdateEvictsChangedMembers() {
+        Long bulkId = memberRepository.save(new Member("cachedBulk", Integer.MAX_VALUE - 1, null)).getId();
+        try {
+            memberRepository.findById(id);
+            memberRepository.findById(bulkId);
+            assertThat(cache.contains(Member.class, bulkId)).isTrue();
+
+            int updated = memberRepository.bulkAgePlus(Integer.MAX_VALUE - 1);
+
+            assertThat(updated).isEqualTo(1);
+            assertThat(cache.contains(Member.class, bulkId)).isFalse(); // 바뀐 회원만 제거
+            assertThat(cache.contains(Member.class, id)).isTrue();      // 나머지는 캐시에 남는다
+            assertThat(memberRepository.findById(bulkId).get().getAge()).isEqualTo(Integer.MAX_VALUE);
+        } finally {
+            memberRepository.deleteById(bulkId);
+        }
+    }
+
+    @Test
+    public void cacheMetricsRegistered() {
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Member.class.getName()).tag("result", "hit").meters()).isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Member.class.getName()).tag("result", "miss").meters()).isNotEmpty();
+    }
+
+    private long regionHits() {
+        return statistics.getDomainDataRegionStatistics(Member.class.getName()).getHitCount();
+    }
+}